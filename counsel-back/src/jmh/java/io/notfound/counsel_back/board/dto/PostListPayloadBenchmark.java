@@ -0,0 +1,89 @@
+package io.notfound.counsel_back.board.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.notfound.counsel_back.board.entity.Attachment;
+import io.notfound.counsel_back.board.entity.Post;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시판 목록 한 페이지의 JSON 직렬화 비용/크기 비교.
+ * full: 기존 PostResponse (본문 전체 + 첨부 URL 목록), summary: PostSummaryResponse (발췌 + 첫 첨부).
+ * 페이지당 바이트 수는 보조 카운터(payloadBytes)로 함께 출력된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostListPayloadBenchmark {
+
+    @Param({"20", "50"})
+    private int pageSize;
+
+    // 게시글 본문 길이 (문자 수)
+    @Param({"2000", "20000"})
+    private int contentLength;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<PostResponse> fullPage;
+    private List<PostSummaryResponse> summaryPage;
+
+    // 마지막으로 직렬화한 페이지의 바이트 수 (단일 스레드 기준 페이지당 크기)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long payloadBytes;
+    }
+
+    @Setup
+    public void setUp() {
+        String content = "요즘 회사 생활이 너무 힘들어요. ".repeat(contentLength / 18 + 1).substring(0, contentLength);
+        fullPage = new ArrayList<>();
+        summaryPage = new ArrayList<>();
+        for (long i = 0; i < pageSize; i++) {
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0).plusMinutes(i);
+            List<Attachment> attachments = List.of(
+                    Attachment.builder().fileName("a.png").fileUrl("https://bucket.s3.amazonaws.com/a-" + i + ".png").build(),
+                    Attachment.builder().fileName("b.png").fileUrl("https://bucket.s3.amazonaws.com/b-" + i + ".png").build());
+            fullPage.add(PostResponse.from(Post.builder()
+                    .id(i)
+                    .title("고민 제목 " + i)
+                    .content(content)
+                    .createdAt(createdAt)
+                    .views(100)
+                    .commentCount(3)
+                    .likeCount(5)
+                    .attachments(attachments)
+                    .build()));
+            summaryPage.add(new PostSummaryResponse(i, 1L, "고민 제목 " + i,
+                    content.substring(0, PostSummaryResponse.EXCERPT_LENGTH),
+                    attachments.get(0).getFileUrl(), 100, 3, 5, createdAt));
+        }
+    }
+
+    @Benchmark
+    public byte[] full(Payload payload) throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(fullPage);
+        payload.payloadBytes = json.length;
+        return json;
+    }
+
+    @Benchmark
+    public byte[] summary(Payload payload) throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(summaryPage);
+        payload.payloadBytes = json.length;
+        return json;
+    }
+}
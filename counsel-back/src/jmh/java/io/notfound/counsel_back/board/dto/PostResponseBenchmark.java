@@ -0,0 +1,58 @@
+package io.notfound.counsel_back.board.dto;
+
+import io.notfound.counsel_back.board.entity.Attachment;
+import io.notfound.counsel_back.board.entity.Post;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 한 페이지(pageSize 건)를 PostResponse 로 변환하는 비용 측정.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostResponseBenchmark {
+
+    @Param({"1", "20"})
+    private int pageSize;
+
+    private List<Post> posts;
+
+    @Setup
+    public void setUp() {
+        posts = new ArrayList<>();
+        for (long i = 0; i < pageSize; i++) {
+            posts.add(Post.builder()
+                    .id(i)
+                    .title("고민 제목 " + i)
+                    .content("요즘 회사 생활이 너무 힘들어요. ".repeat(20))
+                    .createdAt(LocalDateTime.of(2025, 1, 1, 12, 0).plusMinutes(i))
+                    .views(100)
+                    .commentCount(3)
+                    .likeCount(5)
+                    .attachments(List.of(Attachment.builder()
+                            .fileName("image.png")
+                            .fileUrl("https://bucket.s3.amazonaws.com/image-" + i + ".png")
+                            .build()))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<PostResponse> fromPage() {
+        return posts.stream()
+                .map(post -> PostResponse.from(post, false))
+                .toList();
+    }
+}
@@ -0,0 +1,131 @@
+package io.notfound.counsel_back.conversation.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.ai.chat.memory.ChatMemory;
+import org.springframework.ai.chat.memory.MessageWindowChatMemory;
+import org.springframework.ai.chat.memory.repository.jdbc.JdbcChatMemoryRepository;
+import org.springframework.ai.chat.memory.repository.jdbc.MysqlChatMemoryRepositoryDialect;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메모리 get/add 지연 비교: JDBC 단독 vs 로컬 LRU + Redis + JDBC write-behind.
+ * ChatService 와 같이 MessageWindowChatMemory 를 통해 호출한다 (add = 윈도우 조회 + saveAll).
+ * H2(MySQL 모드)와 내장 Redis 를 쓰므로 네트워크 왕복 비용은 실제 환경보다 작게 나온다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TieredChatMemoryRepositoryBenchmark {
+
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS SPRING_AI_CHAT_MEMORY (" +
+            "conversation_id VARCHAR(36) NOT NULL, content TEXT NOT NULL, type VARCHAR(10) NOT NULL, " +
+            "`timestamp` TIMESTAMP NOT NULL)";
+
+    // 대화 윈도우 크기 (ContextManager 의 MessageWindowChatMemory 와 같은 역할)
+    @Param({"10", "20"})
+    private int windowSize;
+
+    @Param("6391")
+    private int redisPort;
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisMessageListenerContainer listenerContainer;
+    private TieredChatMemoryRepository tieredRepository;
+
+    private ChatMemory jdbcMemory;
+    private ChatMemory tieredMemory;
+    private final String conversationId = UUID.randomUUID().toString();
+
+    @Setup
+    public void setUp() throws IOException {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:memory-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        JdbcChatMemoryRepository jdbcRepository = JdbcChatMemoryRepository.builder()
+                .jdbcTemplate(jdbcTemplate)
+                .dialect(new MysqlChatMemoryRepositoryDialect())
+                .transactionManager(new DataSourceTransactionManager(dataSource))
+                .build();
+
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", redisPort));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        tieredRepository = new TieredChatMemoryRepository(jdbcRepository, redisTemplate, listenerContainer,
+                new ObjectMapper(), 10000, Duration.ofSeconds(10), Duration.ofMinutes(60), Duration.ofSeconds(2));
+
+        jdbcMemory = MessageWindowChatMemory.builder().chatMemoryRepository(jdbcRepository).maxMessages(windowSize).build();
+        tieredMemory = MessageWindowChatMemory.builder().chatMemoryRepository(tieredRepository).maxMessages(windowSize).build();
+        for (int i = 0; i < windowSize; i++) {
+            Message message = i % 2 == 0 ? new UserMessage("사용자 메시지 " + i) : new AssistantMessage("상담 응답 " + i);
+            jdbcMemory.add(conversationId, message);
+            tieredMemory.add(conversationId, message);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        tieredRepository.shutdown();
+        listenerContainer.destroy();
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Benchmark
+    public List<Message> jdbcGet() {
+        return jdbcMemory.get(conversationId);
+    }
+
+    @Benchmark
+    public List<Message> tieredGet() {
+        return tieredMemory.get(conversationId);
+    }
+
+    @Benchmark
+    public void jdbcAdd() {
+        jdbcMemory.add(conversationId, new UserMessage("요즘 잠을 잘 못 자요."));
+    }
+
+    @Benchmark
+    public void tieredAdd() {
+        tieredMemory.add(conversationId, new UserMessage("요즘 잠을 잘 못 자요."));
+    }
+}
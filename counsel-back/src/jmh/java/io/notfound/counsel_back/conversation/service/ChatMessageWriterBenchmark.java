@@ -0,0 +1,109 @@
+package io.notfound.counsel_back.conversation.service;
+
+import io.notfound.counsel_back.CounselBackApplication;
+import io.notfound.counsel_back.conversation.entity.ChatMessage;
+import io.notfound.counsel_back.conversation.entity.Conversation;
+import io.notfound.counsel_back.conversation.entity.Sender;
+import io.notfound.counsel_back.conversation.repository.ChatMessageRepository;
+import io.notfound.counsel_back.conversation.repository.ConversationRepository;
+import io.notfound.counsel_back.user.entity.User;
+import io.notfound.counsel_back.user.entity.UserRole;
+import io.notfound.counsel_back.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 턴 1회의 메시지 INSERT 비용이 대화 길이(historySize)와 무관한지 측정.
+ * append: ChatMessageWriter (대화 참조만으로 INSERT 1건)
+ * appendThroughCollection: 이전 방식 (대화 + chatMessages 전체 로딩 후 컬렉션에 추가하고 save)
+ * H2(MySQL 모드) 위에 JPA 만 올린 최소 컨텍스트로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatMessageWriterBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int historySize;
+
+    private ConfigurableApplicationContext context;
+    private ChatMessageWriter chatMessageWriter;
+    private ConversationRepository conversationRepository;
+    private TransactionTemplate transactionTemplate;
+    private Long conversationId;
+
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = CounselBackApplication.class)
+    @EnableJpaRepositories(basePackageClasses = {ChatMessageRepository.class, UserRepository.class})
+    @Import(ChatMessageWriter.class)
+    static class JpaOnlyConfig {
+    }
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JpaOnlyConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:writer-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=warn")
+                .run();
+        chatMessageWriter = context.getBean(ChatMessageWriter.class);
+        conversationRepository = context.getBean(ConversationRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                .email("bench@test.local")
+                .userName("bench")
+                .role(UserRole.USER)
+                .build());
+        conversationId = conversationRepository.save(new Conversation(user)).getId();
+        for (int i = 0; i < historySize; i++) {
+            chatMessageWriter.append(conversationId, i % 2 == 0 ? Sender.USER : Sender.AI, "이전 메시지 " + i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long append() {
+        return chatMessageWriter.append(conversationId, Sender.USER, "요즘 잠을 잘 못 자요.");
+    }
+
+    @Benchmark
+    public Object appendThroughCollection() {
+        return transactionTemplate.execute(status -> {
+            Conversation conversation = conversationRepository.findByIdWithChatMessages(conversationId).orElseThrow();
+            conversation.addChatMessage(new ChatMessage(Sender.USER, "요즘 잠을 잘 못 자요.", conversation));
+            return conversationRepository.save(conversation).getId();
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package io.notfound.counsel_back.conversation.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.UserMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요약 요청 본문(대화 윈도우 → "user: ... / ai: ..." 텍스트) 조립 비용 측정.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HistorySummarizerBenchmark {
+
+    @Param({"10", "40"})
+    private int windowSize;
+
+    private List<Message> window;
+
+    @Setup
+    public void setUp() {
+        window = new ArrayList<>();
+        for (int i = 0; i < windowSize; i++) {
+            window.add(i % 2 == 0
+                    ? new UserMessage("요즘 잠이 잘 안 오고 출근하기가 너무 싫어요. " + i)
+                    : new AssistantMessage("많이 지치셨겠어요. 언제부터 그런 기분이 드셨나요? ".repeat(4) + i));
+        }
+    }
+
+    @Benchmark
+    public String buildHistoryUpdateRequest() {
+        return HistorySummarizer.buildHistoryUpdateRequest(window);
+    }
+}
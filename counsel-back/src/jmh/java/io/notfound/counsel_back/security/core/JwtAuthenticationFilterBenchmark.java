@@ -0,0 +1,68 @@
+package io.notfound.counsel_back.security.core;
+
+import io.jsonwebtoken.Claims;
+import io.notfound.counsel_back.auth.service.RevokedTokenBloomFilter;
+import io.notfound.counsel_back.auth.service.TokenBlacklistService;
+import io.notfound.counsel_back.user.entity.UserRole;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠키 토큰 추출 → 검증 → 블랙리스트 확인 → 인증 객체 생성까지 필터 한 번의 비용 측정.
+ * 블랙리스트 조회는 Redis 왕복을 제외하기 위해 항상 false 를 돌려준다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = JwtTokenProviderBenchmark.newTokenProvider(10000, true);
+        TokenBlacklistService tokenBlacklistService = new TokenBlacklistService(new RedisTemplate<>(), jwtTokenProvider,
+                new RevokedTokenBloomFilter(6, 1 << 18), new RedisMessageListenerContainer()) {
+            @Override
+            public boolean isBlacklisted(String token, Claims claims) {
+                return false;
+            }
+        };
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, tokenBlacklistService);
+        token = jwtTokenProvider.createAccessToken(JwtTokenProviderBenchmark.USER_ID, JwtTokenProviderBenchmark.EMAIL, UserRole.USER);
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/board");
+        request.setCookies(new Cookie("accessToken", token));
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    @Benchmark
+    public Object anonymousRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/board");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,78 @@
+package io.notfound.counsel_back.security.core;
+
+import io.notfound.counsel_back.user.entity.User;
+import io.notfound.counsel_back.user.entity.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 토큰 검증/인증 객체 생성 비용 측정.
+ * UserDetailsService 는 DB 조회 없이 고정 사용자를 돌려주므로 JWT 파싱 비용만 측정된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    static final String SECRET = "am1oLWJlbmNobWFyay1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tcHJvdmlkZXI=";
+    static final String EMAIL = "bench@test.local";
+    static final Long USER_ID = 1L;
+
+    // 0: claims 캐시 없음 (매번 서명 검증), 10000: 기본 캐시 크기
+    @Param({"0", "10000"})
+    private int claimsCacheSize;
+
+    // false: UserDetailsService 조회 (여기서는 DB 없는 고정 사용자), true: claims 로 인증 주체 생성
+    @Param({"false", "true"})
+    private boolean statelessPrincipal;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = newTokenProvider(claimsCacheSize, statelessPrincipal);
+        token = jwtTokenProvider.createAccessToken(USER_ID, EMAIL, UserRole.USER);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication validateThenGetAuthentication() {
+        // 기존 필터 순서 (validateToken 후 getAuthentication 에서 다시 파싱)
+        jwtTokenProvider.validateToken(token);
+        return jwtTokenProvider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication getValidClaimsThenGetAuthentication() {
+        // 현재 필터 순서 (한 번 검증한 claims 재사용)
+        return jwtTokenProvider.getAuthentication(jwtTokenProvider.getValidClaims(token).orElseThrow());
+    }
+
+    static JwtTokenProvider newTokenProvider(int claimsCacheSize, boolean statelessPrincipal) {
+        User user = User.builder()
+                .email(EMAIL)
+                .userName("bench")
+                .role(UserRole.USER)
+                .build();
+        return new JwtTokenProvider(SECRET, 60, 1, claimsCacheSize, statelessPrincipal, username -> new CustomUserDetails(user));
+    }
+}
@@ -0,0 +1,321 @@
+package io.notfound.counsel_back.loadtest;
+
+import io.notfound.counsel_back.board.dto.AIModerationResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.notfound.counsel_back.board.service.AIModerationService;
+import io.notfound.counsel_back.conversation.service.ChatService;
+import io.notfound.counsel_back.security.core.JwtTokenProvider;
+import io.notfound.counsel_back.user.entity.User;
+import io.notfound.counsel_back.user.entity.UserRole;
+import io.notfound.counsel_back.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스텁 LLM 을 붙인 실제 애플리케이션(H2 + 내장 Redis)에 동시 사용자 부하를 걸어
+ * 채팅 스트리밍, 대화 목록, 신고 처리(AI 판정)의 지연시간/처리량을 측정한다.
+ * SSE 용량 측정은 느린 토큰 속도로 스트림을 동시에 열어 두고, DB 작업 분리(chat.blocking.offload) 전후의
+ * 최대 동시 스트림 수와 Tomcat 사용 스레드 수를 비교한다.
+ * loadtest.* 기준을 넘으면 실패하므로 성능 회귀 게이트로 사용한다. (./gradlew loadTest)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@Import(LoadTestConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ChatLoadBenchmark {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private AIModerationService aiModerationService;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private StubChatModel stubChatModel;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${loadtest.users:50}")
+    private int users;
+
+    @Value("${loadtest.requests-per-user:10}")
+    private int requestsPerUser;
+
+    @Value("${loadtest.max-chat-first-byte-p95-millis:1000}")
+    private long maxChatFirstByteP95Millis;
+
+    @Value("${loadtest.max-list-p95-millis:200}")
+    private long maxListP95Millis;
+
+    @Value("${loadtest.min-chat-throughput-per-second:20}")
+    private double minChatThroughputPerSecond;
+
+    // 동시에 열어 둘 SSE 스트림 수 (Tomcat 최대 스레드 수보다 많게)
+    @Value("${loadtest.sse.streams:300}")
+    private int sseStreams;
+
+    // 스트림이 오래 열려 있도록 늦춘 스텁 토큰 속도
+    @Value("${loadtest.sse.tokens-per-second:10}")
+    private int sseTokensPerSecond;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final List<String> tokens = new ArrayList<>();
+
+    @BeforeAll
+    void seedUsers() {
+        for (int i = 0; i < users; i++) {
+            String email = "load-" + i + "@test.local";
+            User user = userRepository.findByEmail(email)
+                    .orElseGet(() -> userRepository.save(User.builder()
+                            .email(email)
+                            .userName("load-" + i)
+                            .role(UserRole.USER)
+                            .build()));
+            tokens.add(jwtTokenProvider.createAccessToken(user.getId(), user.getEmail(), user.getRole()));
+        }
+    }
+
+    @Test
+    void chatStreaming() throws Exception {
+        Result result = run("chat", token -> {
+            HttpRequest request = HttpRequest.newBuilder(uri("/api/conversations/chat"))
+                    .header("Cookie", "accessToken=" + token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"message\":\"요즘 잠이 잘 안 와요\"}"))
+                    .build();
+            long start = System.nanoTime();
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                body.read();
+                long firstByte = System.nanoTime() - start;
+                body.readAllBytes();
+                assertThat(response.statusCode()).isEqualTo(200);
+                return firstByte;
+            }
+        });
+
+        result.print();
+        assertThat(result.percentileMillis(95)).isLessThanOrEqualTo(maxChatFirstByteP95Millis);
+        assertThat(result.throughputPerSecond()).isGreaterThanOrEqualTo(minChatThroughputPerSecond);
+    }
+
+    @Test
+    void conversationList() throws Exception {
+        Result result = run("conversation list", token -> {
+            HttpRequest request = HttpRequest.newBuilder(uri("/api/conversations?limit=20"))
+                    .header("Cookie", "accessToken=" + token)
+                    .GET()
+                    .build();
+            long start = System.nanoTime();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode()).isEqualTo(200);
+            return System.nanoTime() - start;
+        });
+
+        result.print();
+        assertThat(result.percentileMillis(95)).isLessThanOrEqualTo(maxListP95Millis);
+    }
+
+    @Test
+    void moderation() throws Exception {
+        Result result = run("moderation", token -> {
+            long start = System.nanoTime();
+            AIModerationResponse response = aiModerationService.moderateComment(
+                    "요즘 회사 생활이 너무 힘들어요.", "그냥 참으세요.", "무성의한 답변");
+            assertThat(response.getDecision()).isNotBlank();
+            return System.nanoTime() - start;
+        });
+
+        result.print();
+    }
+
+    @Test
+    void sseStreamCapacity() throws Exception {
+        Duration originalInterval = stubChatModel.tokenInterval();
+        stubChatModel.setTokenInterval(Duration.ofMillis(1000L / sseTokensPerSecond));
+        try {
+            StreamCapacity baseline = openStreams("sse (offload off)", false);
+            StreamCapacity offloaded = openStreams("sse (offload on)", true);
+            baseline.print();
+            offloaded.print();
+
+            assertThat(offloaded.failed()).isZero();
+            // 토큰을 기다리는 동안 요청 스레드를 잡지 않으므로 모든 스트림이 동시에 열려 있어야 함
+            assertThat(offloaded.peakStreams()).isEqualTo(sseStreams);
+            assertThat(offloaded.peakBusyThreads()).isLessThan(sseStreams);
+        } finally {
+            stubChatModel.setTokenInterval(originalInterval);
+            ReflectionTestUtils.setField(chatService, "offloadBlocking", true);
+        }
+    }
+
+    // 스트림을 한꺼번에 열고, 첫 이벤트 이후 끝날 때까지를 "열린 스트림"으로 세어 최댓값과 Tomcat 사용 스레드 최댓값을 기록
+    private StreamCapacity openStreams(String name, boolean offload) throws Exception {
+        ReflectionTestUtils.setField(chatService, "offloadBlocking", offload);
+        Gauge busyThreads = meterRegistry.find("tomcat.threads.busy").gauge();
+        assertThat(busyThreads).as("server.tomcat.mbeanregistry.enabled=true 필요").isNotNull();
+
+        AtomicInteger openStreams = new AtomicInteger();
+        AtomicInteger peakStreams = new AtomicInteger();
+        AtomicInteger peakBusy = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> peakBusy.accumulateAndGet((int) busyThreads.value(), Math::max),
+                0, 20, TimeUnit.MILLISECONDS);
+        ExecutorService clients = Executors.newFixedThreadPool(sseStreams);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < sseStreams; i++) {
+                String token = tokens.get(i % tokens.size());
+                futures.add(clients.submit((Callable<Void>) () -> {
+                    startGate.await();
+                    HttpRequest request = HttpRequest.newBuilder(uri("/api/conversations/chat/sse"))
+                            .header("Cookie", "accessToken=" + token)
+                            .header("Content-Type", "application/json")
+                            .header("Accept", "text/event-stream")
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"message\":\"요즘 잠이 잘 안 와요\"}"))
+                            .build();
+                    HttpResponse<Stream<String>> response = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+                    if (response.statusCode() != 200) {
+                        failed.incrementAndGet();
+                        response.body().close();
+                        return null;
+                    }
+                    boolean opened = false;
+                    try (Stream<String> lines = response.body()) {
+                        for (String line : (Iterable<String>) lines::iterator) {
+                            if (!opened && line.startsWith("data:")) {
+                                opened = true;
+                                peakStreams.accumulateAndGet(openStreams.incrementAndGet(), Math::max);
+                            }
+                        }
+                    } finally {
+                        if (opened) {
+                            openStreams.decrementAndGet();
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            clients.shutdownNow();
+            sampler.shutdownNow();
+        }
+        return new StreamCapacity(name, sseStreams, peakStreams.get(), peakBusy.get(), failed.get(),
+                System.nanoTime() - start);
+    }
+
+    private Result run(String name, RequestCall call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String token : tokens) {
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    for (int i = 0; i < requestsPerUser; i++) {
+                        latencies.add(call.execute(token));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Result(name, latencies, System.nanoTime() - start);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    @FunctionalInterface
+    private interface RequestCall {
+        // 요청 1건의 측정 지연시간(ns)을 반환
+        long execute(String token) throws Exception;
+    }
+
+    private record StreamCapacity(String name, int streams, int peakStreams, int peakBusyThreads, int failed,
+                                  long elapsedNanos) {
+
+        void print() {
+            System.out.printf("[loadtest] %s: streams=%d, peakConcurrentStreams=%d, peakTomcatBusyThreads=%d, failed=%d, elapsed=%dms%n",
+                    name, streams, peakStreams, peakBusyThreads, failed, Duration.ofNanos(elapsedNanos).toMillis());
+        }
+    }
+
+    private record Result(String name, List<Long> latencies, long elapsedNanos) {
+
+        long percentileMillis(int percentile) {
+            List<Long> sorted = latencies.stream().sorted().toList();
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+            return Duration.ofNanos(sorted.get(Math.max(0, index))).toMillis();
+        }
+
+        double throughputPerSecond() {
+            return latencies.size() / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        void print() {
+            System.out.printf("[loadtest] %s: requests=%d, p50=%dms, p95=%dms, p99=%dms, throughput=%.1f/s%n",
+                    name, latencies.size(), percentileMillis(50), percentileMillis(95), percentileMillis(99),
+                    throughputPerSecond());
+        }
+    }
+}
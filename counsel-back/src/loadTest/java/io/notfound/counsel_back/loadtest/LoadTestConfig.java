@@ -0,0 +1,32 @@
+package io.notfound.counsel_back.loadtest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@TestConfiguration
+public class LoadTestConfig {
+
+    @Bean
+    @Primary
+    public StubChatModel stubChatModel(
+            @Value("${stub.llm.first-token-latency-millis:300}") long firstTokenLatencyMillis,
+            @Value("${stub.llm.tokens-per-second:50}") int tokensPerSecond,
+            @Value("${stub.llm.reply-tokens:60}") int replyTokens,
+            @Value("${stub.llm.failure-rate:0.0}") double failureRate,
+            @Value("${stub.llm.seed:42}") long seed) {
+        return new StubChatModel(Duration.ofMillis(firstTokenLatencyMillis), tokensPerSecond, replyTokens,
+                failureRate, seed);
+    }
+
+    // Testcontainers 없이 로컬 프로세스로 띄우는 Redis
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public RedisServer embeddedRedis(@Value("${spring.data.redis.port}") int port) throws IOException {
+        return new RedisServer(port);
+    }
+}
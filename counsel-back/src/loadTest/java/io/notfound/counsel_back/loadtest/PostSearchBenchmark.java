@@ -0,0 +1,133 @@
+package io.notfound.counsel_back.loadtest;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 게시글 검색 LIKE vs FULLTEXT(ngram) 비교. 100만 건 합성 데이터가 필요하므로 실제 MySQL 에서만 실행한다.
+ * ./gradlew loadTest -Dsearch.benchmark.jdbc-url=jdbc:mysql://localhost:3306/counsel_bench
+ *     -Dsearch.benchmark.username=... -Dsearch.benchmark.password=...
+ * (대상 스키마에 애플리케이션이 만든 post 테이블이 있어야 함)
+ */
+@EnabledIfSystemProperty(named = "search.benchmark.jdbc-url", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostSearchBenchmark {
+
+    private static final int POST_COUNT = Integer.getInteger("search.benchmark.posts", 1_000_000);
+    private static final int BATCH_SIZE = 5_000;
+    private static final int REPEAT = 20;
+    private static final List<String> KEYWORDS = List.of("연애", "회사 상사", "불면증", "진로 고민");
+    private static final String[] WORDS = {
+            "요즘", "회사", "상사", "연애", "친구", "가족", "진로", "고민", "불면증", "스트레스",
+            "이별", "취업", "시험", "우울", "외로움", "대화", "관계", "학교", "결혼", "돈"};
+
+    private Connection connection;
+
+    @BeforeAll
+    void seed() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("search.benchmark.jdbc-url"),
+                System.getProperty("search.benchmark.username"),
+                System.getProperty("search.benchmark.password"));
+
+        int existing;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM post")) {
+            rs.next();
+            existing = rs.getInt(1);
+        }
+
+        Random random = new Random(42);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO post (title, content, created_at, views, comment_count, like_count) " +
+                        "VALUES (?, ?, NOW(), 0, 0, 0)")) {
+            for (int i = existing; i < POST_COUNT; i++) {
+                insert.setString(1, sentence(random, 4));
+                insert.setString(2, sentence(random, 60));
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        connection.setAutoCommit(true);
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT COUNT(*) FROM information_schema.statistics " +
+                             "WHERE table_schema = DATABASE() AND table_name = 'post' " +
+                             "AND index_name = 'ft_post_title_content'")) {
+            rs.next();
+            if (rs.getInt(1) == 0) {
+                statement.execute("ALTER TABLE post ADD FULLTEXT INDEX ft_post_title_content " +
+                        "(title, content) WITH PARSER ngram");
+            }
+        }
+    }
+
+    @Test
+    void compareLikeAndFullText() throws SQLException {
+        for (String keyword : KEYWORDS) {
+            long like = measure("SELECT p.id FROM post p WHERE LOWER(p.title) LIKE ? OR LOWER(p.content) LIKE ? " +
+                    "ORDER BY p.id DESC LIMIT 10", "%" + keyword.toLowerCase() + "%", "%" + keyword.toLowerCase() + "%");
+            String booleanQuery = toBooleanQuery(keyword);
+            long fullText = measure("SELECT p.id FROM post p WHERE MATCH(p.title, p.content) AGAINST (? IN BOOLEAN MODE) " +
+                    "ORDER BY MATCH(p.title, p.content) AGAINST (? IN BOOLEAN MODE) DESC, p.id DESC LIMIT 10",
+                    booleanQuery, booleanQuery);
+            System.out.printf("[search] posts=%d keyword=%s like=%.1fms fulltext=%.1fms%n",
+                    POST_COUNT, keyword, like / 1_000_000.0, fullText / 1_000_000.0);
+        }
+    }
+
+    // 평균 실행 시간(ns), 첫 실행은 워밍업으로 제외
+    private long measure(String sql, String first, String second) throws SQLException {
+        long total = 0;
+        for (int i = 0; i <= REPEAT; i++) {
+            long start = System.nanoTime();
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, first);
+                statement.setString(2, second);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        rs.getLong(1);
+                    }
+                }
+            }
+            if (i > 0) {
+                total += System.nanoTime() - start;
+            }
+        }
+        return total / REPEAT;
+    }
+
+    private static String toBooleanQuery(String keyword) {
+        StringBuilder query = new StringBuilder();
+        for (String word : keyword.split("\\s+")) {
+            query.append("+\"").append(word).append("\" ");
+        }
+        return query.toString().trim();
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            sentence.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return sentence.toString().trim();
+    }
+}
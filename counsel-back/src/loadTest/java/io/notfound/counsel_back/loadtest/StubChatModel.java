@@ -0,0 +1,112 @@
+package io.notfound.counsel_back.loadtest;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OpenAI 대신 사용하는 결정적(deterministic) 로컬 ChatModel.
+ * - firstTokenLatency 후 tokensPerSecond 속도로 고정 토큰을 흘려보낸다.
+ * - failureRate 비율로 호출을 실패시킨다 (같은 seed 면 같은 순서로 실패).
+ * - 신고 처리/제목 생성 프롬프트에는 각 서비스가 파싱할 수 있는 JSON 을 돌려준다.
+ */
+public class StubChatModel implements ChatModel {
+
+    private static final String REPLY_TOKEN = "괜찮아요 ";
+    private static final String MODERATION_REPLY =
+            "{\"decision\":\"REJECT_REPORT\",\"justification\":\"스텁 응답입니다.\"}";
+
+    private final Duration firstTokenLatency;
+    // 스트림 용량 측정처럼 느린 토큰 속도가 필요한 테스트에서 바꿀 수 있음
+    private volatile Duration tokenInterval;
+    private final int replyTokens;
+    private final double failureRate;
+    private final Random random;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public StubChatModel(Duration firstTokenLatency, int tokensPerSecond, int replyTokens,
+                         double failureRate, long seed) {
+        this.firstTokenLatency = firstTokenLatency;
+        this.tokenInterval = Duration.ofNanos(1_000_000_000L / Math.max(1, tokensPerSecond));
+        this.replyTokens = replyTokens;
+        this.failureRate = failureRate;
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        failIfInjected();
+        sleep(firstTokenLatency.plus(tokenInterval.multipliedBy(replyTokens)));
+        return response(replyFor(prompt));
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        return Mono.fromRunnable(this::failIfInjected)
+                .thenMany(Flux.range(0, replyTokens)
+                        .delayElements(tokenInterval)
+                        .delaySubscription(firstTokenLatency)
+                        .map(i -> response(REPLY_TOKEN)));
+    }
+
+    public Duration tokenInterval() {
+        return tokenInterval;
+    }
+
+    public void setTokenInterval(Duration tokenInterval) {
+        this.tokenInterval = tokenInterval;
+    }
+
+    public long calls() {
+        return calls.get();
+    }
+
+    public long failures() {
+        return failures.get();
+    }
+
+    private String replyFor(Prompt prompt) {
+        String contents = prompt.getContents();
+        if (contents.contains("APPROVE_REPORT")) {
+            return MODERATION_REPLY;
+        }
+        if (contents.contains("JSON 객체")) {
+            return "{}";
+        }
+        return REPLY_TOKEN.repeat(replyTokens).trim();
+    }
+
+    private void failIfInjected() {
+        calls.incrementAndGet();
+        boolean fail;
+        synchronized (random) {
+            fail = random.nextDouble() < failureRate;
+        }
+        if (fail) {
+            failures.incrementAndGet();
+            throw new IllegalStateException("스텁 LLM 실패 주입");
+        }
+    }
+
+    private static ChatResponse response(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -64,8 +64,8 @@ public class AuthService {
             throw new CustomException(ErrorCode.INVALID_CREDENTIALS);
         }
 
-        String accessToken = jwtTokenProvider.createAccessToken(user.getEmail(), user.getRole());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail(), user.getRole());
+        String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail(), user.getRole());
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId(), user.getEmail(), user.getRole());
 
         CookieUtil.addAccessToken(response, accessToken);
         CookieUtil.addRefreshToken(response, refreshToken);
@@ -98,7 +98,7 @@ public class AuthService {
                     return new CustomException(ErrorCode.USER_NOT_FOUND);
                 });
 
-        String newAccessToken = jwtTokenProvider.createAccessToken(user.getEmail(), user.getRole());
+        String newAccessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail(), user.getRole());
 
         CookieUtil.addAccessToken(response, newAccessToken);
         log.info("토큰 갱신 완료: {}", email);
@@ -0,0 +1,102 @@
+package io.notfound.counsel_back.auth.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 노드 로컬 폐기 토큰 bloom filter.
+ * 토큰 만료 시각 기준으로 구간(bucket)을 나누어, 구간이 지나면 조회에서 건너뛰고 재동기화 때 통째로 버린다
+ * (만료된 토큰은 어차피 검증에서 거절됨).
+ * false 면 확실히 폐기되지 않은 토큰이고, true 면 Redis 에서 다시 확인해야 한다.
+ */
+@Component
+public class RevokedTokenBloomFilter {
+
+    private static final int HASH_FUNCTIONS = 7;
+
+    private final long bucketMillis;
+    private final int bitsPerBucket;
+    private final Map<Long, AtomicLongArray> buckets = new ConcurrentHashMap<>();
+
+    public RevokedTokenBloomFilter(
+            @Value("${security.blacklist.bloom.bucket-hours:6}") long bucketHours,
+            @Value("${security.blacklist.bloom.bits-per-bucket:262144}") int bitsPerBucket) {
+        this.bucketMillis = bucketHours * 60 * 60 * 1000L;
+        this.bitsPerBucket = bitsPerBucket;
+    }
+
+    public void add(String revocationId, long expiresAtMillis) {
+        long bucket = expiresAtMillis / bucketMillis;
+        if (bucket < currentBucket()) {
+            return;
+        }
+        AtomicLongArray bits = buckets.computeIfAbsent(bucket, b -> new AtomicLongArray((bitsPerBucket + 63) / 64));
+        for (int position : positions(revocationId)) {
+            int word = position >>> 6;
+            long mask = 1L << (position & 63);
+            bits.getAndUpdate(word, value -> value | mask);
+        }
+    }
+
+    // 요청마다 호출되므로 맵을 변경하지 않고, 지난 구간은 건너뛰기만 한다
+    public boolean mightContain(String revocationId) {
+        if (buckets.isEmpty()) {
+            return false;
+        }
+        long current = currentBucket();
+        int[] positions = positions(revocationId);
+        for (Map.Entry<Long, AtomicLongArray> entry : buckets.entrySet()) {
+            if (entry.getKey() >= current && containsAll(entry.getValue(), positions)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 지난 구간 제거 (TokenBlacklistService 재동기화 작업에서 호출)
+    public void pruneExpiredBuckets() {
+        long current = currentBucket();
+        buckets.keySet().removeIf(bucket -> bucket < current);
+    }
+
+    private boolean containsAll(AtomicLongArray bits, int[] positions) {
+        for (int position : positions) {
+            if ((bits.get(position >>> 6) & (1L << (position & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // SHA-256 앞 16바이트로 두 개의 해시를 만들고 double hashing 으로 k 개 위치 계산
+    private int[] positions(String revocationId) {
+        ByteBuffer digest = ByteBuffer.wrap(sha256(revocationId));
+        long h1 = digest.getLong();
+        long h2 = digest.getLong();
+        int[] positions = new int[HASH_FUNCTIONS];
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            positions[i] = (int) Math.floorMod(h1 + i * h2, (long) bitsPerBucket);
+        }
+        return positions;
+    }
+
+    private long currentBucket() {
+        return System.currentTimeMillis() / bucketMillis;
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -1,37 +1,111 @@
 package io.notfound.counsel_back.auth.service;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.notfound.counsel_back.common.exception.CustomException;
 import io.notfound.counsel_back.common.exception.ErrorCode;
 import io.notfound.counsel_back.security.core.JwtTokenProvider;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 로그아웃 등으로 폐기된 토큰 관리.
+ * 요청마다 Redis 를 조회하지 않도록 노드 로컬 bloom filter 로 먼저 걸러내고, bloom 이 양성일 때만 Redis 를 확인한다.
+ * 다른 노드의 폐기는 Redis pub/sub 으로 전달받고, 메시지 유실에 대비해 주기적으로 Redis 전체를 다시 읽는다.
+ *
+ * 저장 형식
+ * - blacklist:id:{jti 해시 128bit}      : jti 가 있는 토큰 1건 폐기 (키 길이 고정)
+ * - blacklist:id:{토큰 SHA-256}         : jti 가 없는 이전 형식 토큰 1건 폐기
+ * - blacklist:user:{uid} = 시각(ms)     : 해당 시각 이전에 발급된 사용자의 모든 토큰 폐기 (회원 탈퇴 등)
+ * - blacklist:user-access:{uid} = 시각(ms) : 해당 시각 이전에 발급된 액세스 토큰만 만료 (권한/이용권 변경, 리프레시로 재발급)
+ * - blacklist:{토큰 원문}               : 이전 버전 형식, 만료될 때까지 조회만 유지
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class TokenBlacklistService {
+public class TokenBlacklistService implements MessageListener {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RevokedTokenBloomFilter revokedTokenBloomFilter;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
 
     private static final String BLACKLIST_PREFIX = "blacklist:";
+    // 토큰 원문 대신 토큰 해시로 저장하는 키 (이전 형식 "blacklist:" + 토큰 은 만료될 때까지 함께 확인)
+    private static final String REVOKED_ID_PREFIX = "blacklist:id:";
+    private static final String REVOKED_USER_PREFIX = "blacklist:user:";
+    private static final String REVOKED_USER_ACCESS_PREFIX = "blacklist:user-access:";
+    private static final String USER_MESSAGE_PREFIX = "user:";
+    private static final String USER_ACCESS_MESSAGE_PREFIX = "user-access:";
+    private static final String REVOKED_CHANNEL = "blacklist:revoked";
+
+    // 전체 재동기화 주기 (pub/sub 메시지 유실 대비)
+    @Value("${security.blacklist.bloom.resync-minutes:10}")
+    private long resyncMinutes;
+
+    // Redis 에서 한 번이라도 전체 목록을 읽어야 bloom 결과를 신뢰 (그 전에는 모든 확인을 Redis 로)
+    private volatile boolean bloomReady;
+    // uid → 이 시각(ms) 이전에 발급된 토큰은 폐기 (리프레시 토큰 유효 시간이 지난 기록은 resync 에서 제거)
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+    // uid → 이 시각(ms) 이전에 발급된 액세스 토큰은 만료 (리프레시 토큰은 유지, 액세스 토큰 유효 시간이 지나면 제거)
+    private final Map<Long, Long> accessRevokedBefore = new ConcurrentHashMap<>();
+    private ScheduledExecutorService resyncExecutor;
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOKED_CHANNEL));
+        resyncExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "blacklist-resync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        resyncExecutor.scheduleWithFixedDelay(this::resync, 0, resyncMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resyncExecutor.shutdownNow();
+    }
 
     /**
      * 토큰을 블랙리스트에 추가
      */
     public void addToBlacklist(String token) {
         try {
-            String key = BLACKLIST_PREFIX + token;
-            long expiration = jwtTokenProvider.getTokenExpiration(token);
+            Claims claims = jwtTokenProvider.getClaims(token);
+            String revocationId = revocationId(token, claims);
+            long expiration = claims.getExpiration().getTime();
 
             // 토큰 만료 시간까지만 Redis에 저장
             Duration duration = Duration.ofMillis(expiration - System.currentTimeMillis());
             if (duration.toMillis() > 0) {
-                redisTemplate.opsForValue().set(key, "blacklisted", duration);
+                redisTemplate.opsForValue().set(REVOKED_ID_PREFIX + revocationId, "blacklisted", duration);
+                revokedTokenBloomFilter.add(revocationId, expiration);
+                redisTemplate.convertAndSend(REVOKED_CHANNEL, revocationId + ":" + expiration);
                 log.info("토큰이 블랙리스트에 추가됨");
             }
         } catch (Exception e) {
@@ -40,17 +114,188 @@ public class TokenBlacklistService {
         }
     }
 
+    /**
+     * 사용자의 현재까지 발급된 모든 토큰을 폐기 (리프레시 토큰 유효 시간 동안 기록 유지)
+     */
+    public void revokeAllForUser(Long userId) {
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForValue().set(REVOKED_USER_PREFIX + userId, Long.toString(now),
+                    Duration.ofMillis(jwtTokenProvider.getRefreshTokenValidTime()));
+            revokedBefore.merge(userId, now, Math::max);
+            redisTemplate.convertAndSend(REVOKED_CHANNEL, USER_MESSAGE_PREFIX + userId + ":" + now);
+            log.info("사용자 토큰 전체 폐기: userId={}", userId);
+        } catch (Exception e) {
+            log.error("사용자 토큰 폐기 중 오류 발생", e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 사용자의 현재까지 발급된 액세스 토큰만 만료시켜, 클라이언트가 리프레시로 최신 권한이 담긴 토큰을 받게 한다.
+     * (권한/이용권 변경 등, 액세스 토큰 유효 시간 동안 기록 유지)
+     * JWT 의 iat 는 초 단위이므로 기록도 초 단위로 내림해, 변경 직후 같은 초에 재발급된 토큰이 거절되지 않도록 한다.
+     */
+    public void expireAccessTokensForUser(Long userId) {
+        try {
+            long now = System.currentTimeMillis() / 1000 * 1000;
+            redisTemplate.opsForValue().set(REVOKED_USER_ACCESS_PREFIX + userId, Long.toString(now),
+                    Duration.ofMillis(jwtTokenProvider.getAccessTokenValidTime()));
+            accessRevokedBefore.merge(userId, now, Math::max);
+            redisTemplate.convertAndSend(REVOKED_CHANNEL, USER_ACCESS_MESSAGE_PREFIX + userId + ":" + now);
+            log.info("사용자 액세스 토큰 만료: userId={}", userId);
+        } catch (Exception e) {
+            log.error("사용자 액세스 토큰 만료 중 오류 발생", e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * 토큰이 블랙리스트에 있는지 확인
      */
     public boolean isBlacklisted(String token) {
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.getClaims(token);
+        } catch (ExpiredJwtException e) {
+            claims = e.getClaims();
+        } catch (JwtException | IllegalArgumentException e) {
+            return true;
+        }
+        return isBlacklisted(token, claims);
+    }
+
+    /**
+     * 이미 검증한 claims 로 블랙리스트 확인 (요청마다 토큰을 다시 파싱하지 않도록)
+     */
+    public boolean isBlacklisted(String token, Claims claims) {
+        if (isRevokedForUser(claims)) {
+            return true;
+        }
+
+        String revocationId = revocationId(token, claims);
+        // 대부분의 요청(폐기되지 않은 토큰)은 여기서 네트워크 없이 끝남
+        if (bloomReady && !revokedTokenBloomFilter.mightContain(revocationId)) {
+            return false;
+        }
         try {
-            String key = BLACKLIST_PREFIX + token;
-            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_ID_PREFIX + revocationId))) {
+                return true;
+            }
+            // jti 가 없는 토큰만 이전 형식(토큰 원문) 키가 있을 수 있음
+            return claims.getId() == null && Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + token));
         } catch (Exception e) {
             log.error("블랙리스트 확인 중 오류 발생", e);
-            // Redis 장애 시 안전을 위해 true 반환 (토큰 무효화)
+            // Redis 장애 시 안전을 위해 true 반환 (토큰 무효화, bloom 양성이거나 아직 동기화 전인 경우만 해당)
             return true;
         }
     }
+
+    private boolean isRevokedForUser(Claims claims) {
+        Long userId = jwtTokenProvider.getUserPk(claims);
+        if (userId == null || claims.getIssuedAt() == null) {
+            return false;
+        }
+        long issuedAt = claims.getIssuedAt().getTime();
+        Long before = revokedBefore.get(userId);
+        if (before != null && issuedAt < before) {
+            return true;
+        }
+        Long accessBefore = accessRevokedBefore.get(userId);
+        return accessBefore != null && issuedAt < accessBefore && jwtTokenProvider.isAccessToken(claims);
+    }
+
+    // 다른 노드에서 폐기한 토큰 ("{revocationId}:{만료 시각}"), 사용자 ("user:{uid}:{시각}"),
+    // 사용자 액세스 토큰 ("user-access:{uid}:{시각}")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        String id = body.substring(0, separator);
+        long millis = Long.parseLong(body.substring(separator + 1));
+        if (id.startsWith(USER_MESSAGE_PREFIX)) {
+            revokedBefore.merge(Long.parseLong(id.substring(USER_MESSAGE_PREFIX.length())), millis, Math::max);
+        } else if (id.startsWith(USER_ACCESS_MESSAGE_PREFIX)) {
+            accessRevokedBefore.merge(Long.parseLong(id.substring(USER_ACCESS_MESSAGE_PREFIX.length())),
+                    millis, Math::max);
+        } else {
+            revokedTokenBloomFilter.add(id, millis);
+        }
+    }
+
+    // Redis 의 블랙리스트 키를 모두 읽어 bloom 에 반영 (추가만 하므로 동기화 중 들어온 메시지와 충돌 없음)
+    void resync() {
+        pruneWatermarks();
+        revokedTokenBloomFilter.pruneExpiredBuckets();
+        try {
+            ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(1000).build();
+            int count = 0;
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    String key = cursor.next();
+                    if (key.startsWith(REVOKED_USER_PREFIX)) {
+                        String before = redisTemplate.opsForValue().get(key);
+                        if (before != null) {
+                            revokedBefore.merge(Long.parseLong(key.substring(REVOKED_USER_PREFIX.length())),
+                                    Long.parseLong(before), Math::max);
+                        }
+                        continue;
+                    }
+                    if (key.startsWith(REVOKED_USER_ACCESS_PREFIX)) {
+                        String before = redisTemplate.opsForValue().get(key);
+                        if (before != null) {
+                            accessRevokedBefore.merge(Long.parseLong(key.substring(REVOKED_USER_ACCESS_PREFIX.length())),
+                                    Long.parseLong(before), Math::max);
+                        }
+                        continue;
+                    }
+                    Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                    if (ttl == null || ttl <= 0) {
+                        continue;
+                    }
+                    String revocationId = key.startsWith(REVOKED_ID_PREFIX)
+                            ? key.substring(REVOKED_ID_PREFIX.length())
+                            : tokenHash(key.substring(BLACKLIST_PREFIX.length()));
+                    revokedTokenBloomFilter.add(revocationId, System.currentTimeMillis() + ttl);
+                    count++;
+                }
+            }
+            bloomReady = true;
+            log.debug("블랙리스트 bloom filter 동기화 완료: {}건", count);
+        } catch (Exception e) {
+            log.warn("블랙리스트 bloom filter 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    // 기록 시각 이전에 발급된 토큰이 모두 만료된 사용자 기록은 더 이상 거를 토큰이 없으므로 제거 (Redis 키 TTL 과 같은 기준)
+    private void pruneWatermarks() {
+        long now = System.currentTimeMillis();
+        long refreshCutoff = now - jwtTokenProvider.getRefreshTokenValidTime();
+        long accessCutoff = now - jwtTokenProvider.getAccessTokenValidTime();
+        revokedBefore.values().removeIf(before -> before < refreshCutoff);
+        accessRevokedBefore.values().removeIf(before -> before < accessCutoff);
+    }
+
+    // 토큰 원문 대신 저장하는 고정 길이 식별자 (jti 가 있으면 jti 해시 128bit, 없으면 토큰 SHA-256)
+    private static String revocationId(String token, Claims claims) {
+        if (claims.getId() != null) {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(sha256(claims.getId()), 16));
+        }
+        return tokenHash(token);
+    }
+
+    private static String tokenHash(String token) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(token));
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
 }
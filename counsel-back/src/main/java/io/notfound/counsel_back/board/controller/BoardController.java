@@ -3,6 +3,7 @@ package io.notfound.counsel_back.board.controller;
 import io.notfound.counsel_back.board.dto.PostLikeResponse;
 import io.notfound.counsel_back.board.dto.PostRequest;
 import io.notfound.counsel_back.board.dto.PostResponse;
+import io.notfound.counsel_back.board.dto.PostSummaryResponse;
 import io.notfound.counsel_back.board.dto.PostUpdateRequest;
 import io.notfound.counsel_back.board.service.BoardService;
 import lombok.RequiredArgsConstructor;
@@ -63,7 +64,7 @@ public class BoardController {
 
     /** 게시글 목록 조회 (검색 + 페이지네이션 + 좋아요 포함) */
     @GetMapping
-    public ResponseEntity<Page<PostResponse>> getAllPosts(
+    public ResponseEntity<Page<PostSummaryResponse>> getAllPosts(
             @RequestParam(required = false) String search,
             @RequestParam(required = false, defaultValue = "latest") String sortBy,
             @RequestParam(required = false, defaultValue = "desc") String direction,
@@ -76,7 +77,7 @@ public class BoardController {
 
         // 댓글순은 COUNT/필드 기반 정렬 전용 서비스로 위임 (방향 포함)
         if ("comments".equals(key)) {
-            Page<PostResponse> responses =
+            Page<PostSummaryResponse> responses =
                     boardService.getAllPostsOrderByCommentCount(search, pageable, direction);
             return ResponseEntity.ok(responses);
         }
@@ -90,13 +91,18 @@ public class BoardController {
         Sort.Direction dir = "asc".equalsIgnoreCase(direction)
                 ? Sort.Direction.ASC : Sort.Direction.DESC;
 
+        // 관련도순은 검색어가 있을 때만 의미가 있으므로 정렬 없이 넘겨 검색 엔진의 관련도 순서를 사용
+        Sort sort = "relevance".equals(key) && search != null && !search.isBlank()
+                ? Sort.unsorted()
+                : Sort.by(dir, sortProperty);
+
         Pageable effectivePageable = PageRequest.of(
                 pageable.getPageNumber(),
                 pageable.getPageSize(),
-                Sort.by(dir, sortProperty)
+                sort
         );
 
-        Page<PostResponse> responses = boardService.getAllPosts(search, effectivePageable, email);
+        Page<PostSummaryResponse> responses = boardService.getAllPosts(search, effectivePageable, email);
         return ResponseEntity.ok(responses);
     }
 
@@ -0,0 +1,45 @@
+package io.notfound.counsel_back.board.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 게시판 목록 전용 응답.
+ * 본문 전체(content) 대신 앞부분 발췌와 첫 첨부 URL 만 담아 목록 페이지 크기를 본문 길이와 무관하게 유지한다.
+ * PostRepository 의 생성자 프로젝션으로 바로 만들어지므로 Post 엔티티와 content LOB 을 로드하지 않는다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@Jacksonized // 목록 캐시(BoardPageCache)에서 역직렬화
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostSummaryResponse {
+
+    // 목록에 보여줄 본문 발췌 길이 (PostRepository 쿼리의 SUBSTRING 길이와 맞춤)
+    public static final int EXCERPT_LENGTH = 100;
+
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private Long postId;
+    private Long authorId;
+    private String title;
+    private String excerpt;        // 본문 앞부분
+    private String thumbnailUrl;   // 첫 번째 첨부 URL (없으면 null)
+    private Integer viewCount;
+    private Integer commentCount;
+    private Integer likeCount;
+    private Boolean liked;         // 로그인 유저의 좋아요 여부 (조회 후 덧씌움)
+    private String createdAt;
+
+    // JPQL 생성자 프로젝션용
+    public PostSummaryResponse(Long postId, Long authorId, String title, String excerpt, String thumbnailUrl,
+                               int viewCount, int commentCount, int likeCount, LocalDateTime createdAt) {
+        this(postId, authorId, title, excerpt, thumbnailUrl, viewCount, commentCount, likeCount, false,
+                createdAt != null ? createdAt.format(CREATED_AT_FORMAT) : null);
+    }
+}
@@ -10,6 +10,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        // 댓글순 목록 정렬 (ORDER BY comment_count, id)
+        @Index(name = "idx_post_comment_count_id", columnList = "comment_count, id")
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -4,6 +4,12 @@ import io.notfound.counsel_back.board.entity.Post;
 import io.notfound.counsel_back.board.entity.PostLike;
 import io.notfound.counsel_back.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Set;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
@@ -13,6 +19,25 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     // 해당 게시글에 특정 사용자가 좋아요를 눌렀는지 확인
     boolean existsByPostAndUser(Post post, User user);
 
+    // 목록 한 페이지의 게시글 중 사용자가 좋아요한 게시글 id (페이지당 쿼리 1회, (post_id, user_id) 유니크 인덱스 사용)
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.email = :email AND pl.post.id IN :postIds")
+    Set<Long> findLikedPostIds(@Param("email") String email, @Param("postIds") Collection<Long> postIds);
+
+    boolean existsByPost_IdAndUser_Email(Long postId, String email);
+
+    // 좋아요 추가 (이미 있거나 게시글/사용자가 없으면 0건, 유니크 키가 중복 판정)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_likes (post_id, user_id) " +
+            "SELECT p.id, u.id FROM post p JOIN users u ON u.email = :email WHERE p.id = :postId",
+            nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId, @Param("email") String email);
+
+    // 좋아요 취소 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId " +
+            "AND pl.user.id = (SELECT u.id FROM User u WHERE u.email = :email)")
+    int deleteByPostIdAndUserEmail(@Param("postId") Long postId, @Param("email") String email);
+
     // 특정 게시글에 대해 특정 사용자의 좋아요 취소
     void deleteByPostAndUser(Post post, User user);
 
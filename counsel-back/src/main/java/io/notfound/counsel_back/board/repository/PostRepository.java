@@ -1,5 +1,6 @@
 package io.notfound.counsel_back.board.repository;
 
+import io.notfound.counsel_back.board.dto.PostSummaryResponse;
 import io.notfound.counsel_back.board.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,25 +9,65 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    @Query(value = "SELECT DISTINCT p FROM Post p " +
-            "JOIN FETCH p.author " +
-            "LEFT JOIN FETCH p.attachments",
+    /**
+     * 목록 1단계: 페이지에 해당하는 게시글 id 만 조회 (DB 에서 LIMIT/OFFSET 적용)
+     * 컬렉션 fetch join 에 Pageable 을 함께 쓰면 전체 행을 읽은 뒤 메모리에서 페이지를 자르므로 분리한다.
+     */
+    @Query(value = "SELECT p.id FROM Post p",
             countQuery = "SELECT COUNT(p) FROM Post p")
-    Page<Post> findAllWithAuthorAndAttachments(Pageable pageable);
+    Page<Long> findPageIds(Pageable pageable);
+
+    /** 목록 2단계: 페이지의 게시글을 작성자/첨부와 함께 한 번에 조회 (순서는 호출 측에서 id 순서로 맞춤) */
+    @Query("SELECT DISTINCT p FROM Post p " +
+            "JOIN FETCH p.author " +
+            "LEFT JOIN FETCH p.attachments " +
+            "WHERE p.id IN :ids")
+    List<Post> findAllWithAuthorAndAttachmentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 목록 2단계(요약): 페이지의 게시글을 목록 DTO 로 바로 조회.
+     * 본문은 앞 100자만 DB 에서 잘라 가져오고 첫 첨부 URL 은 서브쿼리로 구하므로 엔티티/LOB/첨부 컬렉션을 로드하지 않는다.
+     */
+    @Query("SELECT new io.notfound.counsel_back.board.dto.PostSummaryResponse(" +
+            "p.id, p.author.id, p.title, " +
+            "SUBSTRING(CAST(p.content AS string), 1, " + PostSummaryResponse.EXCERPT_LENGTH + "), " +
+            "(SELECT a.fileUrl FROM Attachment a WHERE a.id = " +
+            "   (SELECT MIN(a2.id) FROM Attachment a2 WHERE a2.post.id = p.id)), " +
+            "p.views, p.commentCount, p.likeCount, p.createdAt) " +
+            "FROM Post p WHERE p.id IN :ids")
+    List<PostSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 
-    /** 제목/내용 대소문자 무시 부분검색 + 페이지네이션 (수정된 버전) */
-    @Query(value = "SELECT p FROM Post p WHERE " +
+    /** 제목/내용 대소문자 무시 부분검색 + 페이지네이션 (id 만 조회, 2단계 조회 1단계) */
+    @Query(value = "SELECT p.id FROM Post p WHERE " +
             "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(CAST(p.content AS string)) LIKE LOWER(CONCAT('%', :keyword, '%'))",
             countQuery = "SELECT count(p.id) FROM Post p WHERE " +
                     "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
                     "LOWER(CAST(p.content AS string)) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Post> findByKeywordContainingIgnoreCase(@Param("keyword") String keyword, Pageable pageable);
+    Page<Long> findIdsByKeywordContainingIgnoreCase(@Param("keyword") String keyword, Pageable pageable);
+
+    /** FULLTEXT(ngram) 검색 id 페이지 (정렬은 pageable, 컬럼명 기준) */
+    @Query(value = "SELECT p.id FROM post p " +
+            "WHERE MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE)",
+            countQuery = "SELECT COUNT(*) FROM post p " +
+                    "WHERE MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<Long> findIdsByFullText(@Param("query") String query, Pageable pageable);
+
+    /** FULLTEXT(ngram) 검색 id 페이지 (관련도 순) */
+    @Query(value = "SELECT p.id FROM post p " +
+            "WHERE MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE) DESC, p.id DESC",
+            countQuery = "SELECT COUNT(*) FROM post p " +
+                    "WHERE MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<Long> findIdsByFullTextOrderByRelevance(@Param("query") String query, Pageable pageable);
 
     /** 상세 조회 시 작성자/첨부까지 한 번에 가져오기 (N+1 방지) */
     @Query("SELECT p FROM Post p JOIN FETCH p.author LEFT JOIN FETCH p.attachments WHERE p.id = :id")
@@ -37,10 +78,13 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("UPDATE Post p SET p.views = p.views + 1 WHERE p.id = :postId")
     int incrementViews(@Param("postId") Long postId);
 
-    /** 댓글 수 증감 (원자적 업데이트) */
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
-    int changeCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+    /** 좋아요 수 증감 (원자적 업데이트, 영속성 컨텍스트를 비우지 않음) */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta WHERE p.id = :postId")
+    int changeLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    int findLikeCountById(@Param("postId") Long postId);
 
     /* --- (옵션) 필요 시 사용할 수 있는 fetch join 기반 목록/검색 --- */
 
@@ -6,7 +6,7 @@ import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.chat.prompt.PromptTemplate;
 import org.springframework.ai.converter.BeanOutputConverter;
-import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
@@ -15,10 +15,10 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AIModerationService {
 
-    private final OpenAiChatModel openAiChatModel;
+    private final ChatModel chatModel;
 
     public AIModerationResponse moderateComment(String postContent, String commentContent, String reportReason) {
-        ChatClient chatClient = ChatClient.create(openAiChatModel);
+        ChatClient chatClient = ChatClient.create(chatModel);
 
         var outputConverter = new BeanOutputConverter<>(AIModerationResponse.class);
 
@@ -0,0 +1,125 @@
+package io.notfound.counsel_back.board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.notfound.counsel_back.board.dto.PostSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 게시판 목록 앞쪽 페이지 read-through 캐시.
+ * 검색어 없는 목록의 앞 N 페이지를 정렬 키별로 직렬화된 JSON 으로 Redis 에 보관해 노드 간에 공유한다.
+ * 캐시에는 사용자와 무관한 값만 담고(liked=false), 좋아요 여부는 조회 후 BoardService 가 덧씌운다.
+ * 무효화는 세대(generation) 번호를 올리는 방식이라, 무효화 도중 적재된 이전 세대 값은 다시 읽히지 않고 TTL 로 사라진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardPageCache {
+
+    private static final String GENERATION_KEY = "board:page:generation";
+    private static final String PAGE_PREFIX = "board:page:";
+
+    // 캐시 대상 정렬 필드 (BoardController 의 최신순/조회수순/댓글순)
+    private static final Set<String> CACHEABLE_SORTS = Set.of("createdAt", "views", "commentCount");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 정렬 키별로 캐시할 앞쪽 페이지 수
+    @Value("${board.cache.hot-pages:3}")
+    private int hotPages;
+
+    // 이보다 큰 페이지 크기는 캐시하지 않음
+    @Value("${board.cache.max-page-size:50}")
+    private int maxPageSize;
+
+    // 조회수/좋아요 수처럼 이벤트 없이 바뀌는 값이 최대 이 시간만큼 늦게 보일 수 있음
+    @Value("${board.cache.ttl-seconds:10}")
+    private long ttlSeconds;
+
+    // Redis 에 저장하는 페이지 형태 (본문 + 전체 건수)
+    record CachedPage(List<PostSummaryResponse> content, long totalElements) {
+    }
+
+    /**
+     * 캐시 대상 페이지면 Redis 에서 꺼내고, 없거나 대상이 아니면 loader 결과를 반환한다.
+     * Redis 장애 시에는 캐시 없이 DB 조회로 동작한다.
+     */
+    public Page<PostSummaryResponse> getOrLoad(Pageable pageable, Supplier<Page<PostSummaryResponse>> loader) {
+        String sortKey = sortKey(pageable);
+        if (sortKey == null) {
+            return loader.get();
+        }
+
+        String key;
+        try {
+            String generation = redisTemplate.opsForValue().get(GENERATION_KEY);
+            key = PAGE_PREFIX + (generation != null ? generation : "0") + ":" + sortKey
+                    + ":" + pageable.getPageNumber() + ":" + pageable.getPageSize();
+            String json = redisTemplate.opsForValue().get(key);
+            if (json != null) {
+                CachedPage cached = objectMapper.readValue(json, CachedPage.class);
+                return new PageImpl<>(cached.content(), pageable, cached.totalElements());
+            }
+        } catch (Exception e) {
+            log.warn("게시판 목록 캐시 조회 실패, DB 에서 직접 조회: {}", e.getMessage());
+            return loader.get();
+        }
+
+        Page<PostSummaryResponse> page = loader.get();
+        try {
+            String json = objectMapper.writeValueAsString(new CachedPage(page.getContent(), page.getTotalElements()));
+            redisTemplate.opsForValue().set(key, json, Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("게시판 목록 캐시 저장 실패 ({}): {}", key, e.getMessage());
+        }
+        return page;
+    }
+
+    // 커밋된 변경만 반영 (트랜잭션 밖에서 발행된 이벤트는 즉시 처리)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostListChanged(PostListChangedEvent event) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        try {
+            redisTemplate.opsForValue().increment(GENERATION_KEY);
+        } catch (Exception e) {
+            log.warn("게시판 목록 캐시 무효화 실패 (TTL 만료까지 이전 목록 노출): {}", e.getMessage());
+        }
+    }
+
+    // 캐시 대상 정렬(첫 필드 + id 동률 정렬까지)의 앞쪽 페이지만 캐시 키를 만든다 (그 외는 null)
+    private String sortKey(Pageable pageable) {
+        if (pageable.isUnpaged()
+                || pageable.getPageNumber() >= hotPages
+                || pageable.getPageSize() > maxPageSize) {
+            return null;
+        }
+        List<Sort.Order> orders = pageable.getSort().toList();
+        if (orders.isEmpty() || orders.size() > 2
+                || !CACHEABLE_SORTS.contains(orders.get(0).getProperty())
+                || (orders.size() == 2 && !"id".equals(orders.get(1).getProperty()))) {
+            return null;
+        }
+        return orders.stream()
+                .map(order -> order.getProperty() + ":" + order.getDirection().name().toLowerCase())
+                .collect(Collectors.joining(","));
+    }
+}
@@ -3,11 +3,10 @@ package io.notfound.counsel_back.board.service;
 import io.notfound.counsel_back.board.dto.PostLikeResponse;
 import io.notfound.counsel_back.board.dto.PostRequest;
 import io.notfound.counsel_back.board.dto.PostResponse;
+import io.notfound.counsel_back.board.dto.PostSummaryResponse;
 import io.notfound.counsel_back.board.dto.PostUpdateRequest;
 import io.notfound.counsel_back.board.entity.Attachment;
 import io.notfound.counsel_back.board.entity.Post;
-import io.notfound.counsel_back.board.entity.PostLike;
-import io.notfound.counsel_back.board.entity.PostView;
 import io.notfound.counsel_back.board.repository.PostLikeRepository;
 import io.notfound.counsel_back.board.repository.PostRepository;
 import io.notfound.counsel_back.board.repository.PostViewRepository;
@@ -16,7 +15,9 @@ import io.notfound.counsel_back.common.exception.UnauthorizedActionException;
 import io.notfound.counsel_back.user.entity.User;
 import io.notfound.counsel_back.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -26,6 +27,10 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -36,6 +41,11 @@ public class BoardService {
     private final S3Service s3Service;
     private final PostViewRepository postViewRepository;
     private final PostLikeRepository postLikeRepository;
+    private final PostSearchService postSearchService;
+    private final PostViewCounter postViewCounter;
+    private final PostLikeService postLikeService;
+    private final BoardPageCache boardPageCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 게시글 생성
     @Transactional
@@ -63,6 +73,7 @@ public class BoardService {
             }
         }
 
+        eventPublisher.publishEvent(new PostListChangedEvent(savedPost.getId()));
         return PostResponse.from(savedPost);
     }
 
@@ -84,45 +95,61 @@ public class BoardService {
     }
 
     // 게시글 목록 조회
-    @Transactional(readOnly = true)
-    public Page<PostResponse> getAllPosts(String search, Pageable pageable, String email) {
-        Page<Post> posts;
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (요약 DTO 는 지연 로딩이 없음)
+    public Page<PostSummaryResponse> getAllPosts(String search, Pageable pageable, String email) {
+        Page<PostSummaryResponse> responses;
         if (search == null || search.trim().isEmpty()) {
-            posts = postRepository.findAllWithAuthorAndAttachments(pageable);
+            responses = boardPageCache.getOrLoad(pageable, () -> fetchPage(postRepository.findPageIds(pageable)));
         } else {
-            posts = postRepository.findByKeywordContainingIgnoreCase(search.trim(), pageable);
+            responses = fetchPage(postSearchService.searchIds(search.trim(), pageable));
         }
 
-        final User finalUser = (email != null && !email.isBlank())
-                ? userRepository.findByEmail(email).orElse(null)
-                : null;
+        return overlayLiked(responses, email);
+    }
+
+    // 2단계 목록 조회: id 페이지 순서대로 요약 DTO 페이지 구성 (본문 LOB 은 읽지 않음)
+    private Page<PostSummaryResponse> fetchPage(Page<Long> idPage) {
+        if (idPage.isEmpty()) {
+            return new PageImpl<>(List.of(), idPage.getPageable(), idPage.getTotalElements());
+        }
+        Map<Long, PostSummaryResponse> postsById = postRepository.findSummariesByIdIn(idPage.getContent()).stream()
+                .collect(Collectors.toMap(PostSummaryResponse::getPostId, Function.identity()));
+        List<PostSummaryResponse> ordered = idPage.getContent().stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(ordered, idPage.getPageable(), idPage.getTotalElements());
+    }
 
-        return posts.map(post -> {
-            boolean liked = finalUser != null && postLikeRepository.existsByPostAndUser(post, finalUser);
-            return PostResponse.from(post, liked);
-        });
+    // 공유 목록 페이지에 로그인 사용자의 좋아요 여부를 덧씌움 (페이지 전체를 한 번에 조회, 비로그인/빈 페이지는 쿼리 없음)
+    private Page<PostSummaryResponse> overlayLiked(Page<PostSummaryResponse> responses, String email) {
+        if (email == null || email.isBlank() || responses.isEmpty()) {
+            return responses;
+        }
+        List<Long> postIds = responses.getContent().stream().map(PostSummaryResponse::getPostId).toList();
+        Set<Long> likedPostIds = postLikeRepository.findLikedPostIds(email, postIds);
+        if (likedPostIds.isEmpty()) {
+            return responses;
+        }
+        return responses.map(response -> likedPostIds.contains(response.getPostId())
+                ? response.toBuilder().liked(true).build()
+                : response);
     }
 
     // 댓글순 정렬 전용: commentCount 기준 + 정렬 방향(direction) 반영
-    @Transactional(readOnly = true)
-    public Page<PostResponse> getAllPostsOrderByCommentCount(String search, Pageable pageable, String direction) {
+    public Page<PostSummaryResponse> getAllPostsOrderByCommentCount(String search, Pageable pageable, String direction) {
         Sort.Direction dir = "asc".equalsIgnoreCase(direction) ? Sort.Direction.ASC : Sort.Direction.DESC;
 
         Pageable sorted = PageRequest.of(
                 pageable.getPageNumber(),
                 pageable.getPageSize(),
-                Sort.by(dir, "commentCount")
+                Sort.by(dir, "commentCount").and(Sort.by(dir, "id")) // (comment_count, id) 인덱스 순서와 일치, 동률 페이지 고정
         );
 
-        Page<Post> posts;
         if (search == null || search.trim().isEmpty()) {
-            posts = postRepository.findAllWithAuthorAndAttachments(sorted);
-        } else {
-            String q = search.trim();
-            posts = postRepository.findByKeywordContainingIgnoreCase(search.trim(), sorted);
+            return boardPageCache.getOrLoad(sorted, () -> fetchPage(postRepository.findPageIds(sorted)));
         }
-
-        return posts.map(PostResponse::from);
+        return fetchPage(postSearchService.searchIds(search.trim(), sorted));
     }
 
     // 게시글 수정
@@ -164,6 +191,7 @@ public class BoardService {
             }
         }
 
+        eventPublisher.publishEvent(new PostListChangedEvent(postId));
         return PostResponse.from(post);
     }
 
@@ -200,74 +228,20 @@ public class BoardService {
 
         // 3) 게시글 삭제 (attachments/comments 는 cascade + orphanRemoval 가정)
         postRepository.delete(post);
+        eventPublisher.publishEvent(new PostListChangedEvent(id));
     }
 
-    // 댓글 수 증감
-    @Transactional
-    public void increaseCommentCount(Long postId) {
-        int updated = postRepository.changeCommentCount(postId, +1);
-        if (updated == 0) throw new PostNotFoundException("해당 게시글이 존재하지 않습니다.");
-    }
-
-    @Transactional
-    public void decreaseCommentCount(Long postId) {
-        int updated = postRepository.changeCommentCount(postId, -1);
-        if (updated == 0) throw new PostNotFoundException("해당 게시글이 존재하지 않습니다.");
-    }
-
-    // 유니크 조회수 기록
-    @Transactional
+    // 유니크 조회수 기록 (중복 판정과 views 증가는 PostViewCounter 가 모아서 일괄 반영)
     public void recordUniqueView(Long postId, String email) {
         if (email == null || email.isBlank()) {
             return;
         }
-
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("해당 게시글이 존재하지 않습니다."));
-
-        User viewer = userRepository.findByEmail(email)
-                .orElseThrow(() -> new PostNotFoundException("사용자를 찾을 수 없습니다: " + email));
-
-        boolean seen = postViewRepository.existsByPostIdAndViewerUser_Id(postId, viewer.getId());
-        if (seen) return;
-
-        PostView pv = PostView.builder()
-                .post(post)
-                .viewerUser(viewer)
-                .build();
-        postViewRepository.save(pv);
-
-        postRepository.incrementViews(postId);
+        postViewCounter.record(postId, email);
     }
 
     // 게시글 좋아요 토글
-    @Transactional
     public PostLikeResponse toggleLike(Long postId, String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new PostNotFoundException("사용자를 찾을 수 없습니다: " + email));
-
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("게시글이 존재하지 않습니다: " + postId));
-
-        boolean exists = postLikeRepository.existsByPostAndUser(post, user);
-        if (exists) {
-            // 이미 좋아요를 눌렀다면 좋아요 취소
-            postLikeRepository.deleteByPostAndUser(post, user);
-            post.decreaseLikeCount(); // 좋아요 수 감소
-        } else {
-            // 아니라면 좋아요 추가
-            postLikeRepository.save(PostLike.builder()
-                    .post(post)
-                    .user(user)
-                    .build());
-            post.increaseLikeCount();
-        }
-        Post savedPost = postRepository.save(post);
-
-        return PostLikeResponse.builder()
-                .liked(!exists)
-                .likeCount(savedPost.getLikeCount())
-                .build();
+        return postLikeService.toggle(postId, email);
     }
 
     /** 게시글 좋아요 상태 가져오기 */
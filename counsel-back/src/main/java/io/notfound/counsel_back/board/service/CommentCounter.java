@@ -0,0 +1,223 @@
+package io.notfound.counsel_back.board.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * post.comment_count write-behind 집계기.
+ * 댓글 생성/삭제 트랜잭션이 커밋된 뒤에만 게시글별 증감을 메모리에 합산하고,
+ * 짧은 주기로 게시글마다 UPDATE 한 번씩(id 순서) 일괄 반영한다.
+ * 댓글 트랜잭션 안에서 게시글 행을 잠그거나 영속성 컨텍스트를 flush/clear 하지 않으므로
+ * 한 게시글에 댓글이 몰려도 서로 기다리지 않는다.
+ * 반영 전 종료/장애로 잃은 증감은 주기적인 재계산(comment 행 수 기준)으로 바로잡는다.
+ * 실제로 바뀐 행이 있는 반영 주기마다 목록 캐시를 한 번 무효화한다 (댓글순 정렬이 어긋나지 않도록).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCounter {
+
+    // 음수가 되는 증감은 적용하지 않고 CLAMP_SQL 로 따로 처리 (어긋남을 세기 위해)
+    private static final String APPLY_DELTA_SQL =
+            "UPDATE post SET comment_count = comment_count + ? WHERE id = ? AND comment_count + ? >= 0";
+    private static final String CLAMP_SQL =
+            "UPDATE post SET comment_count = 0 WHERE id = ? AND comment_count + ? < 0";
+
+    private static final String MISMATCH_SQL =
+            "SELECT t.id, t.actual FROM (" +
+                    "SELECT p.id, p.comment_count, (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id) AS actual " +
+                    "FROM post p WHERE p.id > ? AND p.id <= ?) t " +
+                    "WHERE t.actual <> t.comment_count";
+    private static final String SET_COUNT_SQL =
+            "UPDATE post SET comment_count = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardPageCache boardPageCache;
+    private final MeterRegistry meterRegistry;
+
+    // 반영 주기 (이 시간 동안 같은 게시글의 증감은 하나로 합쳐짐)
+    @Value("${board.comments.flush-interval-millis:500}")
+    private long flushIntervalMillis;
+
+    @Value("${board.comments.reconcile-interval-minutes:60}")
+    private long reconcileIntervalMinutes;
+
+    @Value("${board.comments.reconcile-chunk-size:1000}")
+    private long reconcileChunkSize;
+
+    // 게시글 id → 아직 반영되지 않은 증감 합계
+    private final Map<Long, Integer> pendingDeltas = new ConcurrentHashMap<>();
+    // 게시글 id → 아직 커밋/롤백되지 않은 댓글 트랜잭션 수 (재계산 대상에서 제외)
+    private final Map<Long, Integer> inFlight = new ConcurrentHashMap<>();
+
+    private record Mismatch(long postId, long actual) {
+    }
+
+    // 한 번의 반영 결과 (갱신된 게시글 수, 음수가 되어 0 으로 맞춘 게시글 수)
+    private record Applied(int changed, int clamped) {
+    }
+    private ScheduledExecutorService flushExecutor;
+
+    @PostConstruct
+    public void init() {
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "comment-count-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        flushExecutor.scheduleWithFixedDelay(this::reconcile,
+                reconcileIntervalMinutes, reconcileIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    public void increase(Long postId) {
+        record(postId, 1);
+    }
+
+    public void decrease(Long postId) {
+        record(postId, -1);
+    }
+
+    // 트랜잭션 안이면 커밋 후에만 반영 대상에 추가 (롤백된 댓글은 세지 않음)
+    private void record(Long postId, int delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            inFlight.merge(postId, 1, Integer::sum);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pendingDeltas.merge(postId, delta, Integer::sum);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    inFlight.computeIfPresent(postId, (id, count) -> count > 1 ? count - 1 : null);
+                }
+            });
+        } else {
+            pendingDeltas.merge(postId, delta, Integer::sum);
+        }
+    }
+
+    synchronized void flush() {
+        // id 순서로 꺼내 잠금 순서 고정, 합계가 0 이면 갱신 생략
+        Map<Long, Integer> batch = new TreeMap<>();
+        for (Long postId : new ArrayList<>(pendingDeltas.keySet())) {
+            Integer delta = pendingDeltas.remove(postId);
+            if (delta != null && delta != 0) {
+                batch.put(postId, delta);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(batch.entrySet());
+        Applied applied;
+        try {
+            applied = transactionTemplate.execute(status -> applyDeltas(entries));
+        } catch (Exception e) {
+            log.error("댓글 수 반영 실패, 다음 주기에 재시도 ({}개 게시글)", entries.size(), e);
+            entries.forEach(entry -> pendingDeltas.merge(entry.getKey(), entry.getValue(), Integer::sum));
+            return;
+        }
+        if (applied.clamped() > 0) {
+            meterRegistry.counter("board.comments.negative").increment(applied.clamped());
+            log.warn("댓글 수가 음수가 되어 0 으로 맞춤: {}개 게시글 (다음 재계산에서 보정)", applied.clamped());
+        }
+        if (applied.changed() > 0) {
+            boardPageCache.invalidateAll();
+        }
+    }
+
+    // 증감 반영 후 음수가 되어 적용되지 않은 게시글만 0 으로 맞춤
+    private Applied applyDeltas(List<Map.Entry<Long, Integer>> entries) {
+        int[][] applied = jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+            ps.setInt(3, entry.getValue());
+        });
+        // 적용되지 않은 음수 증감 (게시글이 삭제되었거나 댓글 수가 실제보다 작았던 경우)
+        List<Map.Entry<Long, Integer>> rejected = new ArrayList<>();
+        int changed = 0;
+        int index = 0;
+        for (int[] counts : applied) {
+            for (int count : counts) {
+                Map.Entry<Long, Integer> entry = entries.get(index++);
+                if (count == 0) {
+                    if (entry.getValue() < 0) {
+                        rejected.add(entry);
+                    }
+                } else {
+                    // SUCCESS_NO_INFO 도 갱신된 것으로 봄 (캐시 무효화 판단용)
+                    changed++;
+                }
+            }
+        }
+        int clamped = 0;
+        for (Map.Entry<Long, Integer> entry : rejected) {
+            clamped += jdbcTemplate.update(CLAMP_SQL, entry.getKey(), entry.getValue());
+        }
+        return new Applied(changed + clamped, clamped);
+    }
+
+    // 보정된 게시글 수 반환 (남은 증감을 먼저 반영한 뒤 재계산)
+    synchronized int reconcile() {
+        flush();
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM post", Long.class);
+            if (maxId == null) {
+                return 0;
+            }
+            int fixed = 0;
+            for (long from = 0; from < maxId; from += reconcileChunkSize) {
+                List<Mismatch> mismatches = jdbcTemplate.query(MISMATCH_SQL,
+                        (rs, rowNum) -> new Mismatch(rs.getLong(1), rs.getLong(2)),
+                        from, from + reconcileChunkSize);
+                // 센 뒤에 확인: 반영 전 증감이나 진행 중인 댓글 트랜잭션이 있는 게시글은
+                // 센 값에 이미 포함된 증감이 나중에 한 번 더 더해질 수 있으므로 다음 보정으로 미룸
+                List<Object[]> updates = mismatches.stream()
+                        .filter(mismatch -> !pendingDeltas.containsKey(mismatch.postId())
+                                && !inFlight.containsKey(mismatch.postId()))
+                        .map(mismatch -> new Object[]{mismatch.actual(), mismatch.postId()})
+                        .toList();
+                if (!updates.isEmpty()) {
+                    jdbcTemplate.batchUpdate(SET_COUNT_SQL, updates);
+                    fixed += updates.size();
+                }
+            }
+            if (fixed > 0) {
+                log.warn("댓글 수 보정: {}개 게시글", fixed);
+                boardPageCache.invalidateAll();
+            }
+            return fixed;
+        } catch (Exception e) {
+            log.error("댓글 수 보정 실패", e);
+            return 0;
+        }
+    }
+}
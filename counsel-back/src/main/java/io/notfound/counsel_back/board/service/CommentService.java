@@ -24,7 +24,7 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final BoardService boardService;
+    private final CommentCounter commentCounter;
 
     @Transactional
     public CommentResponse createComment(Long postId, CommentRequest request, String email) {
@@ -44,8 +44,8 @@ public class CommentService {
 
         Comment savedComment = commentRepository.save(comment);
 
-        // DB에서 commentCount = commentCount + 1 (경합에 안전)
-        boardService.increaseCommentCount(post.getId());
+        // commentCount + 1 은 커밋 후 게시글별로 모아서 반영 (게시글 행 잠금/영속성 컨텍스트 초기화 없음)
+        commentCounter.increase(post.getId());
 
         return CommentResponse.from(savedComment);
     }
@@ -92,9 +92,9 @@ public class CommentService {
         // 먼저 삭제
         commentRepository.delete(comment);
 
-        // 그 다음 DB에서 commentCount - 1 (post가 있을 때만)
+        // 그 다음 commentCount - 1 (post가 있을 때만, 커밋 후 모아서 반영)
         if (postId != null) {
-            boardService.decreaseCommentCount(postId);
+            commentCounter.decrease(postId);
         }
     }
 }
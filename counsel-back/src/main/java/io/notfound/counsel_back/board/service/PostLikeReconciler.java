@@ -0,0 +1,75 @@
+package io.notfound.counsel_back.board.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * post.like_count 를 post_likes 실제 행 수와 주기적으로 맞추는 보정 작업.
+ * 이전 방식(엔티티 read-modify-write)으로 어긋난 값이나 수동 데이터 수정으로 생긴 차이를 바로잡는다.
+ * 게시글 id 구간별로 나누어 어긋난 행만 갱신하므로 한 번에 많은 행을 잠그지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeReconciler {
+
+    private static final String RECONCILE_SQL =
+            "UPDATE post p SET like_count = (SELECT COUNT(*) FROM post_likes pl WHERE pl.post_id = p.id) " +
+                    "WHERE p.id > ? AND p.id <= ? " +
+                    "AND p.like_count <> (SELECT COUNT(*) FROM post_likes pl WHERE pl.post_id = p.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${board.likes.reconcile-interval-minutes:30}")
+    private long intervalMinutes;
+
+    @Value("${board.likes.reconcile-chunk-size:1000}")
+    private long chunkSize;
+
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "post-like-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::reconcile, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 보정된 게시글 수 반환
+    int reconcile() {
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM post", Long.class);
+            if (maxId == null) {
+                return 0;
+            }
+            int fixed = 0;
+            for (long from = 0; from < maxId; from += chunkSize) {
+                fixed += jdbcTemplate.update(RECONCILE_SQL, from, from + chunkSize);
+            }
+            if (fixed > 0) {
+                log.warn("좋아요 수 보정: {}개 게시글", fixed);
+            }
+            return fixed;
+        } catch (Exception e) {
+            log.error("좋아요 수 보정 실패", e);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.notfound.counsel_back.board.service;
+
+import io.notfound.counsel_back.board.dto.PostLikeResponse;
+import io.notfound.counsel_back.board.repository.PostLikeRepository;
+import io.notfound.counsel_back.board.repository.PostRepository;
+import io.notfound.counsel_back.common.exception.PostNotFoundException;
+import io.notfound.counsel_back.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 좋아요 토글.
+ * 존재 여부를 먼저 읽지 않고 삭제 → (삭제된 행이 없으면) INSERT IGNORE 순서로 바로 시도하고,
+ * 실제로 바뀐 행 수만큼만 likeCount 를 원자적으로 증감한다.
+ * (post_id, user_id) 유니크 키가 중복을 막으므로 동시에 여러 번 눌러도 행과 카운트가 어긋나지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostLikeService {
+
+    private final PostLikeRepository postLikeRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+
+    @Transactional
+    public PostLikeResponse toggle(Long postId, String email) {
+        boolean liked;
+        if (postLikeRepository.deleteByPostIdAndUserEmail(postId, email) > 0) {
+            postRepository.changeLikeCount(postId, -1);
+            liked = false;
+        } else if (postLikeRepository.insertIgnore(postId, email) > 0) {
+            postRepository.changeLikeCount(postId, +1);
+            liked = true;
+        } else {
+            // 게시글/사용자가 없거나, 같은 사용자의 동시 요청이 먼저 좋아요를 추가한 경우
+            if (!postRepository.existsById(postId)) {
+                throw new PostNotFoundException("게시글이 존재하지 않습니다: " + postId);
+            }
+            liked = postLikeRepository.existsByPost_IdAndUser_Email(postId, email);
+            // 좋아요 행도 없으면 사용자가 없는 경우 (기존과 같은 오류로 응답)
+            if (!liked && !userRepository.existsByEmail(email)) {
+                throw new PostNotFoundException("사용자를 찾을 수 없습니다: " + email);
+            }
+        }
+
+        return PostLikeResponse.builder()
+                .liked(liked)
+                .likeCount(postRepository.findLikeCountById(postId))
+                .build();
+    }
+}
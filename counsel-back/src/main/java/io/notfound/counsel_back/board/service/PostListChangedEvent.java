@@ -0,0 +1,8 @@
+package io.notfound.counsel_back.board.service;
+
+/**
+ * 게시글 목록 응답에 보이는 값(제목, 첨부, 노출 여부 등)이 바뀌었음을 알리는 이벤트.
+ * 커밋 이후 BoardPageCache 가 받아 캐시된 목록 페이지를 무효화한다.
+ */
+public record PostListChangedEvent(Long postId) {
+}
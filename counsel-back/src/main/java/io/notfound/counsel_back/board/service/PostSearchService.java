@@ -0,0 +1,170 @@
+package io.notfound.counsel_back.board.service;
+
+import io.notfound.counsel_back.board.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 검색.
+ * MySQL 에서는 제목/내용 FULLTEXT(ngram) 인덱스로 검색하고, 정렬 조건이 없으면 관련도 순으로 돌려준다.
+ * 인덱스를 쓸 수 없는 경우(MySQL 이 아님, 인덱스 준비 전, ngram 최소 길이보다 짧은 검색어)에는 기존 LIKE 검색을 사용한다.
+ * InnoDB FULLTEXT 인덱스는 INSERT/UPDATE/DELETE 시 함께 갱신되므로 게시글 생성/수정/삭제에서 별도 처리가 없다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    private static final String FULLTEXT_INDEX_NAME = "ft_post_title_content";
+    // MySQL 기본 ngram_token_size
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    // 엔티티 정렬 필드 → 컬럼 (native 쿼리용)
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "createdAt", "p.created_at",
+            "views", "p.views",
+            "commentCount", "p.comment_count",
+            "likeCount", "p.like_count");
+
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${board.search.fulltext-enabled:true}")
+    private boolean fullTextEnabled;
+
+    // 인덱스 준비에 실패했을 때 다시 확인하는 간격
+    @Value("${board.search.fulltext-recheck-seconds:300}")
+    private long recheckSeconds;
+
+    private volatile boolean fullTextReady;
+    private ScheduledExecutorService recheckExecutor;
+
+    @PreDestroy
+    public void shutdown() {
+        if (recheckExecutor != null) {
+            recheckExecutor.shutdownNow();
+        }
+    }
+
+    // 테이블 생성(ddl-auto) 이후 인덱스가 없으면 생성, 실패하면 준비될 때까지 주기적으로 다시 확인
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureFullTextIndex() {
+        if (!fullTextEnabled || prepareFullTextIndex()) {
+            return;
+        }
+        recheckExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "post-fulltext-recheck");
+            thread.setDaemon(true);
+            return thread;
+        });
+        recheckExecutor.scheduleWithFixedDelay(() -> {
+            if (prepareFullTextIndex()) {
+                recheckExecutor.shutdown();
+            }
+        }, recheckSeconds, recheckSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 인덱스를 확인/생성하고 FULLTEXT 검색을 켠다.
+     * @return 더 이상 확인할 필요가 없으면 true (준비 완료 또는 MySQL 이 아님)
+     */
+    boolean prepareFullTextIndex() {
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            if (product == null || !product.toLowerCase().contains("mysql")) {
+                log.info("FULLTEXT 검색을 지원하지 않는 DB 입니다 ({}), LIKE 검색을 사용합니다.", product);
+                return true;
+            }
+            if (!fullTextIndexExists()) {
+                log.info("게시글 FULLTEXT 인덱스 생성 시작");
+                jdbcTemplate.execute("ALTER TABLE post ADD FULLTEXT INDEX " + FULLTEXT_INDEX_NAME +
+                        " (title, content) WITH PARSER ngram");
+                log.info("게시글 FULLTEXT 인덱스 생성 완료");
+            }
+            fullTextReady = true;
+            return true;
+        } catch (Exception e) {
+            // 여러 노드가 동시에 기동하면 다른 노드가 먼저 만든 인덱스와 이름이 겹칠 수 있음 (Duplicate key name)
+            if (fullTextIndexExistsQuietly()) {
+                log.info("게시글 FULLTEXT 인덱스가 이미 존재합니다.");
+                fullTextReady = true;
+                return true;
+            }
+            log.warn("게시글 FULLTEXT 인덱스 준비 실패, {}초 뒤 다시 확인하고 그동안 LIKE 검색을 사용합니다: {}",
+                    recheckSeconds, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean fullTextIndexExists() {
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'post' AND index_name = ?",
+                Integer.class, FULLTEXT_INDEX_NAME);
+        return exists != null && exists > 0;
+    }
+
+    private boolean fullTextIndexExistsQuietly() {
+        try {
+            return fullTextIndexExists();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * 검색 결과 id 페이지. pageable 에 정렬이 없으면 관련도 순.
+     */
+    public Page<Long> searchIds(String keyword, Pageable pageable) {
+        String booleanQuery = toBooleanQuery(keyword);
+        if (!fullTextReady || booleanQuery.isEmpty()) {
+            Pageable likePageable = pageable.getSort().isSorted()
+                    ? pageable
+                    : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "id"));
+            return postRepository.findIdsByKeywordContainingIgnoreCase(keyword, likePageable);
+        }
+        if (pageable.getSort().isUnsorted()) {
+            return postRepository.findIdsByFullTextOrderByRelevance(booleanQuery,
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        }
+        return postRepository.findIdsByFullText(booleanQuery,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), toColumnSort(pageable.getSort())));
+    }
+
+    // 단어마다 "+\"단어\"" (모든 단어를 구문으로 포함), 연산자 문자는 제거하고 ngram 보다 짧은 단어는 제외
+    static String toBooleanQuery(String keyword) {
+        return Arrays.stream(keyword.trim().split("\\s+"))
+                .map(word -> word.replaceAll("[+\\-<>()~*\"@]", ""))
+                .filter(word -> word.length() >= NGRAM_TOKEN_SIZE)
+                .map(word -> "+\"" + word + "\"")
+                .collect(Collectors.joining(" "));
+    }
+
+    private static Sort toColumnSort(Sort sort) {
+        Sort columnSort = Sort.unsorted();
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.getOrDefault(order.getProperty(), "p.id");
+            columnSort = columnSort.and(JpaSort.unsafe(order.getDirection(), column));
+        }
+        return columnSort.and(JpaSort.unsafe(Sort.Direction.DESC, "p.id"));
+    }
+}
@@ -0,0 +1,201 @@
+package io.notfound.counsel_back.board.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 유니크 조회수 write-behind 집계기.
+ * 1) Redis 게시글별 조회자 집합으로 이미 본 사용자를 먼저 걸러내고
+ * 2) 새 조회만 메모리 큐에 모았다가
+ * 3) 주기적으로 post_views 에 INSERT IGNORE 로 일괄 기록(유니크 키가 최종 중복 판정)하고,
+ *    실제로 기록된 건수만큼 게시글별 views = views + n 을 한 번에 반영한다.
+ * 조회 요청마다 게시글 행을 잠그지 않으므로 인기 게시글에 조회가 몰려도 서로 기다리지 않는다.
+ * DB 장애가 길어져 큐가 queue-capacity 를 넘으면 새 조회는 버리고 board.views.dropped 로 센다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    private static final String VIEWERS_PREFIX = "post:viewers:";
+
+    private static final String INSERT_VIEW_SQL =
+            "INSERT IGNORE INTO post_views (post_id, viewer_user_id, created_at) " +
+                    "SELECT p.id, u.id, NOW() FROM post p JOIN users u ON u.email = ? WHERE p.id = ?";
+    private static final String INCREMENT_VIEWS_SQL =
+            "UPDATE post SET views = views + ? WHERE id = ?";
+    // 드라이버가 건별 결과를 주지 않을 때(SUCCESS_NO_INFO) post_views 기준으로 다시 계산
+    private static final String RECOUNT_VIEWS_SQL =
+            "UPDATE post SET views = (SELECT COUNT(*) FROM post_views v WHERE v.post_id = ?) WHERE id = ?";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 반영 주기
+    @Value("${board.views.flush-interval-millis:1000}")
+    private long flushIntervalMillis;
+
+    // Redis 조회자 집합 유지 시간 (만료 후 재조회는 DB 유니크 키가 걸러냄)
+    @Value("${board.views.dedupe-ttl-hours:24}")
+    private long dedupeTtlHours;
+
+    // 이 수를 넘으면 주기를 기다리지 않고 바로 반영
+    @Value("${board.views.max-pending:50000}")
+    private int maxPending;
+
+    // 반영이 계속 실패할 때 메모리에 쌓아 둘 최대 조회 수 (넘으면 버림)
+    @Value("${board.views.queue-capacity:200000}")
+    private int queueCapacity;
+
+    private record PendingView(Long postId, String email) {
+    }
+
+    private final ConcurrentLinkedQueue<PendingView> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    // 조기 반영 작업은 한 번에 하나만 대기
+    private final AtomicBoolean earlyFlushQueued = new AtomicBoolean();
+    private ScheduledExecutorService flushExecutor;
+
+    @PostConstruct
+    public void init() {
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "post-view-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    public void record(Long postId, String email) {
+        // 큐가 가득 차면 Redis 집합에 기록하기 전에 버림 (같은 사용자의 다음 조회는 다시 집계 대상)
+        if (pendingCount.get() >= queueCapacity) {
+            drop(1);
+            return;
+        }
+        if (!isFirstView(postId, email)) {
+            return;
+        }
+        pending.add(new PendingView(postId, email));
+        if (pendingCount.incrementAndGet() >= maxPending && earlyFlushQueued.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    earlyFlushQueued.set(false);
+                }
+            });
+        }
+    }
+
+    private void drop(int count) {
+        meterRegistry.counter("board.views.dropped").increment(count);
+    }
+
+    // Redis 집합에 처음 추가된 경우만 새 조회로 간주 (Redis 장애 시에는 DB 유니크 키에 맡김)
+    private boolean isFirstView(Long postId, String email) {
+        try {
+            String key = VIEWERS_PREFIX + postId;
+            Long added = redisTemplate.opsForSet().add(key, email);
+            if (added != null && added > 0) {
+                redisTemplate.expire(key, Duration.ofHours(dedupeTtlHours));
+                return true;
+            }
+            return added == null;
+        } catch (Exception e) {
+            log.warn("조회자 집합 확인 실패, DB 에서 중복 판정 (postId={}): {}", postId, e.getMessage());
+            return true;
+        }
+    }
+
+    synchronized void flush() {
+        List<PendingView> batch = new ArrayList<>();
+        PendingView view;
+        while ((view = pending.poll()) != null) {
+            batch.add(view);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        pendingCount.addAndGet(-batch.size());
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // post_views 기록 (이미 있으면 무시, 게시글/사용자가 없으면 0건)
+                int[][] inserted = jdbcTemplate.batchUpdate(INSERT_VIEW_SQL, batch, batch.size(), (ps, pendingView) -> {
+                    ps.setString(1, pendingView.email());
+                    ps.setLong(2, pendingView.postId());
+                });
+
+                // 실제로 기록된 조회만 게시글별로 합산 (id 순서로 갱신해 잠금 순서 고정)
+                Map<Long, Integer> increments = new TreeMap<>();
+                Set<Long> unknown = new TreeSet<>();
+                int index = 0;
+                for (int[] counts : inserted) {
+                    for (int count : counts) {
+                        Long postId = batch.get(index).postId();
+                        if (count == Statement.SUCCESS_NO_INFO) {
+                            unknown.add(postId);
+                        } else if (count > 0) {
+                            increments.merge(postId, 1, Integer::sum);
+                        }
+                        index++;
+                    }
+                }
+                // 결과를 알 수 없는 게시글은 더하지 않고 post_views 로 다시 계산
+                unknown.forEach(increments::remove);
+
+                List<Object[]> updates = increments.entrySet().stream()
+                        .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                        .toList();
+                jdbcTemplate.batchUpdate(INCREMENT_VIEWS_SQL, updates);
+
+                List<Object[]> recounts = unknown.stream()
+                        .map(postId -> new Object[]{postId, postId})
+                        .toList();
+                jdbcTemplate.batchUpdate(RECOUNT_VIEWS_SQL, recounts);
+            });
+        } catch (Exception e) {
+            // 롤백되었으므로 다음 주기에 다시 시도 (post_views 유니크 키 덕분에 중복 집계 없음)
+            log.error("조회수 반영 실패, 다음 주기에 재시도 ({}건)", batch.size(), e);
+            int room = Math.max(0, queueCapacity - pendingCount.get());
+            int kept = Math.min(room, batch.size());
+            pending.addAll(batch.subList(0, kept));
+            pendingCount.addAndGet(kept);
+            if (kept < batch.size()) {
+                log.warn("조회수 반영 대기열이 가득 차 조회 {}건을 버림", batch.size() - kept);
+                drop(batch.size() - kept);
+            }
+        }
+    }
+}
@@ -12,6 +12,7 @@ import io.notfound.counsel_back.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -33,6 +34,7 @@ public class ReportService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final AIModerationService aiModerationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ReportResponseDto saveReport(ReportRequestDto requestDto, String email) {
@@ -96,6 +98,7 @@ public class ReportService {
 
                 comment.blind();
                 commentRepository.save(comment);
+                eventPublisher.publishEvent(new PostListChangedEvent(post.getId()));
             } else {
                 report.updateStatus(ReportStatus.REJECTED);
             }
@@ -1,24 +1,75 @@
-//package io.notfound.counsel_back.conversation.config;
-//
-//import org.springframework.ai.chat.memory.ChatMemoryRepository;
-//import org.springframework.ai.chat.memory.repository.jdbc.JdbcChatMemoryRepository;
-//import org.springframework.context.annotation.Bean;
-//import org.springframework.context.annotation.Configuration;
-//import org.springframework.context.annotation.Primary;
-//import org.springframework.jdbc.core.JdbcTemplate;
-//import org.springframework.transaction.PlatformTransactionManager;
-//
-//@Configuration
-//public class AiConfig {
-//
-//    @Bean
-//    @Primary
-//    public ChatMemoryRepository chatMemoryRepository(
-//            JdbcTemplate jdbcTemplate,
-//            PlatformTransactionManager transactionManager) {
-//        return JdbcChatMemoryRepository.builder()
-//                .jdbcTemplate(jdbcTemplate)
-//                .transactionManager(transactionManager)
-//                .build();
-//    }
-//}
+package io.notfound.counsel_back.conversation.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.notfound.counsel_back.conversation.repository.TieredChatMemoryRepository;
+import org.springframework.ai.chat.memory.ChatMemoryRepository;
+import org.springframework.ai.chat.memory.repository.jdbc.JdbcChatMemoryRepository;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+@Configuration
+public class AiConfig {
+
+    // 노드별로 메모리에 유지할 대화 윈도우 수
+    @Value("${chat.memory.local-capacity:10000}")
+    private int localCapacity;
+
+    // 로컬 윈도우 최대 유지 시간 (pub/sub 무효화 메시지 유실 시 다른 노드 저장이 늦게 보이는 상한)
+    @Value("${chat.memory.local-ttl-seconds:10}")
+    private long localTtlSeconds;
+
+    // Redis 에 보관할 비활성 대화 윈도우 유지 시간
+    @Value("${chat.memory.redis-ttl-minutes:60}")
+    private long redisTtlMinutes;
+
+    // DB write-behind 주기
+    @Value("${chat.memory.flush-interval-millis:2000}")
+    private long flushIntervalMillis;
+
+    // 프롬프트/요약 토큰 수를 OpenAI 호출 없이 로컬에서 계산
+    @Bean
+    public TokenCountEstimator tokenCountEstimator() {
+        return new JTokkitTokenCountEstimator();
+    }
+
+    @Bean
+    public JdbcChatMemoryRepository jdbcChatMemoryRepository(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager) {
+        return JdbcChatMemoryRepository.builder()
+                .jdbcTemplate(jdbcTemplate)
+                .transactionManager(transactionManager)
+                .build();
+    }
+
+    /**
+     * 로컬 LRU → Redis → JDBC 순으로 조회하고, JDBC 에는 최신 스냅샷만 주기적으로 반영하는 채팅 메모리 저장소.
+     */
+    @Bean
+    @Primary
+    public ChatMemoryRepository chatMemoryRepository(
+            JdbcChatMemoryRepository jdbcChatMemoryRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            ObjectMapper objectMapper) {
+        return new TieredChatMemoryRepository(
+                jdbcChatMemoryRepository,
+                redisTemplate,
+                redisMessageListenerContainer,
+                objectMapper,
+                localCapacity,
+                Duration.ofSeconds(localTtlSeconds),
+                Duration.ofMinutes(redisTtlMinutes),
+                Duration.ofMillis(flushIntervalMillis));
+    }
+}
@@ -0,0 +1,28 @@
+package io.notfound.counsel_back.conversation.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class ChatExecutionConfig {
+
+    // 채팅 요청의 블로킹 DB 작업(대화 조회, 메시지 저장, 프롬프트 구성)을 실행할 스레드 수
+    @Value("${chat.blocking.threads:32}")
+    private int threadCap;
+
+    // 스레드가 모두 사용 중일 때 대기할 수 있는 작업 수 (초과 시 즉시 거절)
+    @Value("${chat.blocking.queue-size:1000}")
+    private int queuedTaskCap;
+
+    /**
+     * 채팅 전용 블로킹 작업 스케줄러.
+     * Tomcat 요청 스레드나 OpenAI 응답을 받는 HTTP 클라이언트 스레드에서 JPA 호출이 일어나지 않도록 분리한다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler chatBlockingScheduler() {
+        return Schedulers.newBoundedElastic(threadCap, queuedTaskCap, "chat-db");
+    }
+}
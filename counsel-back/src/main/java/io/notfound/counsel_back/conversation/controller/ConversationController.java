@@ -1,20 +1,24 @@
 package io.notfound.counsel_back.conversation.controller;
 
+import io.notfound.counsel_back.conversation.dto.ChatMessagePageResponse;
 import io.notfound.counsel_back.conversation.dto.ChatRequest;
 import io.notfound.counsel_back.conversation.dto.ConversationDetailResponse;
-import io.notfound.counsel_back.conversation.dto.ConversationListResponse;
+import io.notfound.counsel_back.conversation.dto.ConversationPageResponse;
 import io.notfound.counsel_back.conversation.dto.ConversationUpdateRequest;
 import io.notfound.counsel_back.conversation.service.ChatService;
 import io.notfound.counsel_back.conversation.service.ConversationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/conversations")
@@ -34,12 +38,27 @@ public class ConversationController {
         return chatService.completeChat(request, email);
     }
 
-    // 모든 대화 목록 조회
+    // SSE 스트리밍 채팅 엔드포인트 (토큰마다 data 이벤트, 클라이언트 소비 속도에 맞춰 전송)
+    @PostMapping(value = "/chat/sse", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> chatSse(
+            @RequestBody ChatRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        String email = userDetails.getUsername();
+        return chatService.completeChat(request, email)
+                .map(token -> ServerSentEvent.builder(token).build());
+    }
+
+    // 대화 목록 키셋 페이지 조회 (limit 이 없으면 20건, 응답의 nextCursorCreatedAt/nextCursorId 로 다음 페이지 요청)
     @GetMapping
-    public ResponseEntity<List<ConversationListResponse>> getConversations(
+    public ResponseEntity<ConversationPageResponse> getConversations(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(required = false) Integer limit,
             @AuthenticationPrincipal UserDetails userDetails) {
         String email = userDetails.getUsername();
-        List<ConversationListResponse> conversations = conversationService.getConversationsByUser(email);
+        ConversationPageResponse conversations =
+                conversationService.getConversationsByUser(email, cursorCreatedAt, cursorId, limit);
 
         return ResponseEntity.ok(conversations);
     }
@@ -54,6 +73,18 @@ public class ConversationController {
         return ResponseEntity.ok(conversation);
     }
 
+    // 특정 대화 메시지 커서 페이지 조회 (before: 이전 응답의 nextCursor)
+    @GetMapping("/{id}/messages")
+    public ResponseEntity<ChatMessagePageResponse> getConversationMessages(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false, defaultValue = "30") int limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        String email = userDetails.getUsername();
+        ChatMessagePageResponse messages = conversationService.getConversationMessages(id, before, limit, email);
+        return ResponseEntity.ok(messages);
+    }
+
     // 대화 제목 및 요약 수정
     @PutMapping("/{id}")
     public ResponseEntity<ConversationDetailResponse> updateConversation(
@@ -0,0 +1,22 @@
+package io.notfound.counsel_back.conversation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+/**
+ * 채팅 한 턴 동안 재사용하는 대화 정보 (소유자 확인, 프롬프트 history, 제목 생성 여부 판단).
+ * Conversation 엔티티 대신 한 번의 프로젝션 쿼리로 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ChatContext {
+    private Long conversationId;
+    private String ownerEmail;
+    private String history;
+    private String title;
+
+    public boolean hasTitle() {
+        return StringUtils.hasText(title);
+    }
+}
@@ -0,0 +1,18 @@
+package io.notfound.counsel_back.conversation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessagePageResponse {
+    private List<ChatMessageResponse> messages; // 오래된 순 정렬
+    private Long nextCursor;                    // 더 이전 메시지를 요청할 때 before 로 전달할 id
+    private boolean hasMore;
+}
@@ -1,5 +1,6 @@
 package io.notfound.counsel_back.conversation.dto;
 
+import io.notfound.counsel_back.conversation.entity.Sender;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,4 +14,9 @@ public class ChatMessageResponse {
     private Long id;
     private String message;
     private String sender;
+
+    // JPQL 생성자 프로젝션용 (엔티티를 로딩하지 않고 바로 DTO 로 조회)
+    public ChatMessageResponse(Long id, String message, Sender sender) {
+        this(id, message, sender.name());
+    }
 }
\ No newline at end of file
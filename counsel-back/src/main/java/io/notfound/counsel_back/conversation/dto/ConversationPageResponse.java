@@ -0,0 +1,20 @@
+package io.notfound.counsel_back.conversation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConversationPageResponse {
+    private List<ConversationListResponse> conversations; // 최신순 정렬
+    private LocalDateTime nextCursorCreatedAt;            // 다음 페이지 요청 시 cursorCreatedAt 으로 전달
+    private Long nextCursorId;                            // 다음 페이지 요청 시 cursorId 로 전달
+    private boolean hasMore;
+}
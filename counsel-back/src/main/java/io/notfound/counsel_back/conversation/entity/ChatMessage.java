@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -37,9 +38,21 @@ public class ChatMessage {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // 스트리밍 중인 AI 응답은 false 로 저장되고, 스트림 종료 시 true 로 확정
+    @Column(nullable = false)
+    @ColumnDefault("true")
+    private boolean completed = true;
+
     public ChatMessage(Sender sender, String message, Conversation conversation) {
         this.sender = sender;
         this.message = message;
         this.conversation = conversation;
     }
+
+    // 스트리밍 AI 응답을 이어 붙일 빈 스테이징 메시지 생성
+    public static ChatMessage staging(Sender sender, Conversation conversation) {
+        ChatMessage chatMessage = new ChatMessage(sender, "", conversation);
+        chatMessage.completed = false;
+        return chatMessage;
+    }
 }
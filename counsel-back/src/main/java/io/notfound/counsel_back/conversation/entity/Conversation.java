@@ -16,6 +16,7 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@Table(indexes = @Index(name = "idx_conversation_user_created_at", columnList = "user_id, createdAt"))
 public class Conversation {
 
     @Id
@@ -1,7 +1,51 @@
 package io.notfound.counsel_back.conversation.repository;
 
+import io.notfound.counsel_back.conversation.dto.ChatMessageResponse;
 import io.notfound.counsel_back.conversation.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+
+    /** 스트리밍 중인 메시지 뒤에 청크를 이어 붙이기 (엔티티 로딩 없이 DB 에서 직접 연결) */
+    @Modifying
+    @Query(value = "UPDATE chat_message SET message = CONCAT(message, :chunk) WHERE id = :id",
+            nativeQuery = true)
+    int appendChunk(@Param("id") Long id, @Param("chunk") String chunk);
+
+    /** 스트리밍 완료 처리 */
+    @Modifying
+    @Query("UPDATE ChatMessage m SET m.completed = true WHERE m.id = :id")
+    int markCompleted(@Param("id") Long id);
+
+    @Query("SELECT m.message FROM ChatMessage m WHERE m.id = :id")
+    String findMessageTextById(@Param("id") Long id);
+
+    /** 대화의 전체 메시지를 DTO 로 바로 조회 (오래된 순) */
+    @Query("SELECT new io.notfound.counsel_back.conversation.dto.ChatMessageResponse(m.id, m.message, m.sender) " +
+            "FROM ChatMessage m WHERE m.conversation.id = :conversationId " +
+            "ORDER BY m.createdAt ASC, m.id ASC")
+    List<ChatMessageResponse> findResponsesByConversationId(@Param("conversationId") Long conversationId);
+
+    /** 최신 메시지 페이지 (idx_conversation_created_at 역순 스캔, 스트리밍 중인 스테이징 행 제외) */
+    @Query("SELECT new io.notfound.counsel_back.conversation.dto.ChatMessageResponse(m.id, m.message, m.sender) " +
+            "FROM ChatMessage m WHERE m.conversation.id = :conversationId AND m.completed = true " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<ChatMessageResponse> findLatestPage(@Param("conversationId") Long conversationId, Pageable pageable);
+
+    /** 커서(before) 메시지보다 이전 메시지 페이지 (createdAt, id 키셋, 커서는 같은 대화의 메시지여야 함) */
+    @Query("SELECT new io.notfound.counsel_back.conversation.dto.ChatMessageResponse(m.id, m.message, m.sender) " +
+            "FROM ChatMessage m, ChatMessage pivot " +
+            "WHERE pivot.id = :before AND pivot.conversation.id = :conversationId " +
+            "AND m.conversation.id = :conversationId AND m.completed = true " +
+            "AND (m.createdAt < pivot.createdAt OR (m.createdAt = pivot.createdAt AND m.id < pivot.id)) " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<ChatMessageResponse> findPageBefore(@Param("conversationId") Long conversationId,
+                                             @Param("before") Long before,
+                                             Pageable pageable);
 }
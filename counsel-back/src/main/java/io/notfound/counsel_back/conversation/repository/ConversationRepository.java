@@ -1,12 +1,18 @@
 package io.notfound.counsel_back.conversation.repository;
 
+import io.notfound.counsel_back.conversation.dto.ChatContext;
+import io.notfound.counsel_back.conversation.dto.ConversationListResponse;
 import io.notfound.counsel_back.conversation.entity.Conversation;
 import io.notfound.counsel_back.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,12 +20,48 @@ public interface ConversationRepository extends JpaRepository<Conversation, Long
     // 사용자로 대화 목록 조회 (가장 최신순으로)
     List<Conversation> findByUserOrderByCreatedAtDesc(User user);
 
+    // 사이드바 목록용 프로젝션 (history/memo TEXT 컬럼은 읽지 않음, idx_conversation_user_created_at 범위 스캔)
+    @Query("SELECT new io.notfound.counsel_back.conversation.dto.ConversationListResponse(" +
+            "c.id, COALESCE(c.title, '새로운 고민 상담'), c.createdAt) " +
+            "FROM Conversation c JOIN c.user u WHERE u.email = :email " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ConversationListResponse> findListByUserEmail(@Param("email") String email, Pageable pageable);
+
+    // 커서 (createdAt, id) 이후의 목록 페이지
+    @Query("SELECT new io.notfound.counsel_back.conversation.dto.ConversationListResponse(" +
+            "c.id, COALESCE(c.title, '새로운 고민 상담'), c.createdAt) " +
+            "FROM Conversation c JOIN c.user u WHERE u.email = :email " +
+            "AND (c.createdAt < :cursorCreatedAt OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ConversationListResponse> findListByUserEmailBefore(@Param("email") String email,
+                                                             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                             @Param("cursorId") Long cursorId,
+                                                             Pageable pageable);
+
     @EntityGraph("Conversation.withChatMessages")
     Optional<Conversation> findWithChatMessagesById(Long id);
 
     @Query("SELECT c FROM Conversation c JOIN FETCH c.chatMessages WHERE c.id = :id")
     Optional<Conversation> findByIdWithChatMessages(@Param("id") Long id);
 
+    // 채팅 턴용 컨텍스트 (대화 id, 소유자 이메일, history, 제목) 를 한 번의 쿼리로 조회
+    @Query("SELECT new io.notfound.counsel_back.conversation.dto.ChatContext(c.id, u.email, c.history, c.title) " +
+            "FROM Conversation c JOIN c.user u WHERE c.id = :id")
+    Optional<ChatContext> findChatContextById(@Param("id") Long id);
+
+    // 권한 확인용 소유자 이메일만 조회
+    @Query("SELECT u.email FROM Conversation c JOIN c.user u WHERE c.id = :id")
+    Optional<String> findOwnerEmailById(@Param("id") Long id);
+
+    @Query("SELECT c.history FROM Conversation c WHERE c.id = :id")
+    Optional<String> findHistoryById(@Param("id") Long id);
+
+    // 요약 결과만 단건 UPDATE (엔티티 로딩/merge 없이)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Conversation c SET c.history = :history WHERE c.id = :id")
+    int updateHistory(@Param("id") Long id, @Param("history") String history);
+
     @Query("SELECT c FROM Conversation c WHERE c.id = :id")
     Optional<Conversation> findByIdWithoutChatMessages(@Param("id") Long id);
 
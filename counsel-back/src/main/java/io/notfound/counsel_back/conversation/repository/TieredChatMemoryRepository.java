@@ -0,0 +1,246 @@
+package io.notfound.counsel_back.conversation.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.memory.ChatMemoryRepository;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 메모리 윈도우를 3단계로 저장하는 ChatMemoryRepository.
+ * 1) 노드 로컬 LRU 캐시 (Redis 왕복 없이 응답, 다른 노드의 저장은 pub/sub 무효화 + 짧은 TTL 로 반영)
+ * 2) Redis (노드 간 공유, TTL 로 비활성 대화 자동 만료)
+ * 3) JDBC (내구성 저장소, 대화별 최신 스냅샷만 주기적으로 write-behind)
+ */
+@Slf4j
+public class TieredChatMemoryRepository implements ChatMemoryRepository, MessageListener {
+
+    private static final String DATA_PREFIX = "chat-memory:";
+    private static final String INVALIDATE_CHANNEL = "chat-memory:invalidate";
+    private static final TypeReference<List<StoredMessage>> STORED_LIST = new TypeReference<>() {
+    };
+
+    private final ChatMemoryRepository durableRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final long localTtlNanos;
+
+    // 자기 노드가 보낸 무효화 메시지는 무시하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, CachedWindow> localCache;
+    private final Map<String, List<Message>> pendingWrites = new ConcurrentHashMap<>();
+    // Redis 장애로 지우지 못한 대화 (복구 후 이전 윈도우가 읽히지 않도록 write-behind 주기마다 재시도)
+    private final Set<String> pendingRedisInvalidations = ConcurrentHashMap.newKeySet();
+    // 무효화 수신 횟수 (Redis 조회 도중 무효화가 오면 읽은 값을 로컬에 올리지 않음)
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private final ScheduledExecutorService writeBehindExecutor;
+
+    // Redis 에 저장하는 메시지 형태 (타입 + 본문)
+    record StoredMessage(MessageType type, String text) {
+    }
+
+    // 로컬 캐시 항목 (expiresAt 이후에는 Redis 에서 다시 읽음)
+    private record CachedWindow(long expiresAt, List<Message> messages) {
+    }
+
+    public TieredChatMemoryRepository(ChatMemoryRepository durableRepository,
+                                      RedisTemplate<String, String> redisTemplate,
+                                      RedisMessageListenerContainer listenerContainer,
+                                      ObjectMapper objectMapper,
+                                      int localCapacity,
+                                      Duration localTtl,
+                                      Duration redisTtl,
+                                      Duration flushInterval) {
+        this.durableRepository = durableRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+        this.localTtlNanos = localTtl.toNanos();
+        this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedWindow> eldest) {
+                return size() > localCapacity;
+            }
+        });
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+        this.writeBehindExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "chat-memory-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        this.writeBehindExecutor.scheduleWithFixedDelay(this::flushPendingWrites,
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public List<String> findConversationIds() {
+        return durableRepository.findConversationIds();
+    }
+
+    @Override
+    public List<Message> findByConversationId(String conversationId) {
+        CachedWindow cached = localCache.get(conversationId);
+        if (cached != null && cached.expiresAt() - System.nanoTime() > 0) {
+            return cached.messages();
+        }
+
+        try {
+            long invalidationsBefore = invalidationCount.get();
+            String json = redisTemplate.opsForValue().get(DATA_PREFIX + conversationId);
+            List<Message> messages;
+            if (json != null) {
+                messages = fromJson(json);
+            } else {
+                messages = loadDurable(conversationId);
+                redisTemplate.opsForValue().set(DATA_PREFIX + conversationId, toJson(messages), redisTtl);
+            }
+            if (invalidationCount.get() == invalidationsBefore) {
+                cacheLocally(conversationId, messages);
+            }
+            return messages;
+        } catch (Exception e) {
+            log.warn("채팅 메모리 캐시 조회 실패, DB 에서 직접 조회 (conversationId={}): {}", conversationId, e.getMessage());
+            return loadDurable(conversationId);
+        }
+    }
+
+    @Override
+    public void saveAll(String conversationId, List<Message> messages) {
+        List<Message> snapshot = List.copyOf(messages);
+        try {
+            redisTemplate.opsForValue().set(DATA_PREFIX + conversationId, toJson(snapshot), redisTtl);
+            // 새 윈도우로 덮어썼으므로 이전 장애로 남은 삭제 재시도는 불필요
+            pendingRedisInvalidations.remove(conversationId);
+            publishInvalidation(conversationId);
+            cacheLocally(conversationId, snapshot);
+            pendingWrites.put(conversationId, snapshot);
+        } catch (Exception e) {
+            log.warn("채팅 메모리 캐시 저장 실패, DB 에 바로 저장 (conversationId={}): {}", conversationId, e.getMessage());
+            localCache.remove(conversationId);
+            pendingWrites.remove(conversationId);
+            durableRepository.saveAll(conversationId, snapshot);
+            // Redis 의 이전 윈도우가 DB 보다 먼저 읽히지 않도록 삭제 + 다른 노드 무효화 (실패 시 주기적으로 재시도)
+            pendingRedisInvalidations.add(conversationId);
+            invalidateRedis(conversationId);
+        }
+    }
+
+    @Override
+    public void deleteByConversationId(String conversationId) {
+        pendingWrites.remove(conversationId);
+        localCache.remove(conversationId);
+        pendingRedisInvalidations.add(conversationId);
+        invalidateRedis(conversationId);
+        durableRepository.deleteByConversationId(conversationId);
+    }
+
+    // 다른 노드의 저장/삭제 알림 → 로컬 캐시에서 제거 (다음 조회는 Redis 에서)
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        invalidationCount.incrementAndGet();
+        localCache.remove(body.substring(separator + 1));
+    }
+
+    // 대화별 최신 스냅샷만 DB 에 반영 (같은 대화의 중간 상태는 건너뜀)
+    void flushPendingWrites() {
+        for (String conversationId : new ArrayList<>(pendingWrites.keySet())) {
+            List<Message> snapshot = pendingWrites.remove(conversationId);
+            if (snapshot == null) {
+                continue;
+            }
+            try {
+                durableRepository.saveAll(conversationId, snapshot);
+            } catch (Exception e) {
+                log.error("채팅 메모리 DB 반영 실패 (conversationId={})", conversationId, e);
+                pendingWrites.putIfAbsent(conversationId, snapshot);
+            }
+        }
+        for (String conversationId : new ArrayList<>(pendingRedisInvalidations)) {
+            invalidateRedis(conversationId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writeBehindExecutor.shutdown();
+        flushPendingWrites();
+    }
+
+    // Redis 데이터 키 삭제 + 다른 노드 로컬 캐시 무효화 (성공하면 재시도 대상에서 제외)
+    private void invalidateRedis(String conversationId) {
+        try {
+            redisTemplate.delete(DATA_PREFIX + conversationId);
+            publishInvalidation(conversationId);
+            pendingRedisInvalidations.remove(conversationId);
+        } catch (Exception e) {
+            log.warn("채팅 메모리 캐시 무효화 실패, 다음 주기에 재시도 (conversationId={}): {}", conversationId, e.getMessage());
+        }
+    }
+
+    private void publishInvalidation(String conversationId) {
+        redisTemplate.convertAndSend(INVALIDATE_CHANNEL, nodeId + ":" + conversationId);
+    }
+
+    private void cacheLocally(String conversationId, List<Message> messages) {
+        localCache.put(conversationId, new CachedWindow(System.nanoTime() + localTtlNanos, messages));
+    }
+
+    private List<Message> loadDurable(String conversationId) {
+        List<Message> pending = pendingWrites.get(conversationId);
+        return pending != null ? pending : durableRepository.findByConversationId(conversationId);
+    }
+
+    private String toJson(List<Message> messages) throws JsonProcessingException {
+        List<StoredMessage> stored = messages.stream()
+                .map(message -> new StoredMessage(message.getMessageType(), message.getText()))
+                .toList();
+        return objectMapper.writeValueAsString(stored);
+    }
+
+    private List<Message> fromJson(String json) throws JsonProcessingException {
+        return objectMapper.readValue(json, STORED_LIST).stream()
+                .map(TieredChatMemoryRepository::toMessage)
+                .toList();
+    }
+
+    private static Message toMessage(StoredMessage stored) {
+        return switch (stored.type()) {
+            case USER -> new UserMessage(stored.text());
+            case ASSISTANT -> new AssistantMessage(stored.text());
+            default -> new SystemMessage(stored.text());
+        };
+    }
+}
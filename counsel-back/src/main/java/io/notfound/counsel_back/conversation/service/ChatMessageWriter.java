@@ -0,0 +1,58 @@
+package io.notfound.counsel_back.conversation.service;
+
+import io.notfound.counsel_back.conversation.entity.ChatMessage;
+import io.notfound.counsel_back.conversation.entity.Sender;
+import io.notfound.counsel_back.conversation.repository.ChatMessageRepository;
+import io.notfound.counsel_back.conversation.repository.ConversationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 채팅 메시지 전용 append-only 쓰기 경로.
+ * Conversation 의 chatMessages 컬렉션을 로딩하지 않고 conversation_id 참조만으로 메시지 행을 추가한다.
+ * AI 스트리밍 응답은 DB 스테이징 행에 청크 단위로 이어 쓰며,
+ * 클라이언트 연결이 끊기거나 서버가 중단되어도 그때까지 받은 응답은 completed = false 상태로 남는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatMessageWriter {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ConversationRepository conversationRepository;
+
+    // 완성된 메시지 한 건 추가 (대화 엔티티는 프록시 참조만 사용)
+    @Transactional
+    public Long append(Long conversationId, Sender sender, String text) {
+        ChatMessage chatMessage = new ChatMessage(sender, text, conversationRepository.getReferenceById(conversationId));
+        return chatMessageRepository.save(chatMessage).getId();
+    }
+
+    // 스트림 시작 시 빈 AI 메시지 행 생성
+    @Transactional
+    public Long open(Long conversationId) {
+        ChatMessage staging = ChatMessage.staging(Sender.AI, conversationRepository.getReferenceById(conversationId));
+        return chatMessageRepository.save(staging).getId();
+    }
+
+    // 모아둔 청크 묶음을 이어 붙이기
+    @Transactional
+    public void appendChunk(Long messageId, String chunk) {
+        if (chunk == null || chunk.isEmpty()) {
+            return;
+        }
+        chatMessageRepository.appendChunk(messageId, chunk);
+    }
+
+    // 스트림 종료 시 완료 처리 후 최종 응답 반환 (빈 응답이면 스테이징 행 삭제)
+    @Transactional
+    public String complete(Long messageId) {
+        String fullText = chatMessageRepository.findMessageTextById(messageId);
+        if (fullText == null || fullText.isEmpty()) {
+            chatMessageRepository.deleteById(messageId);
+            return "";
+        }
+        chatMessageRepository.markCompleted(messageId);
+        return fullText;
+    }
+}
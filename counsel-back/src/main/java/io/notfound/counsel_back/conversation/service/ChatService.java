@@ -1,131 +1,173 @@
 package io.notfound.counsel_back.conversation.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.notfound.counsel_back.conversation.dto.ChatContext;
 import io.notfound.counsel_back.conversation.dto.ChatRequest;
-import io.notfound.counsel_back.conversation.entity.ChatMessage;
 import io.notfound.counsel_back.conversation.entity.Conversation;
 import io.notfound.counsel_back.conversation.entity.Sender;
 import io.notfound.counsel_back.conversation.repository.ConversationRepository;
 import io.notfound.counsel_back.user.entity.User;
 import io.notfound.counsel_back.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.memory.ChatMemory;
 import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.prompt.Prompt;
-import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatService {
 
-    private final OpenAiChatModel openAiChatModel;
+    private final ChatModel chatModel;
     private final ContextManager contextManager;
-    private final ConversationService conversationService;
     private final ConversationRepository conversationRepository;
     private final UserRepository userRepository;
+    private final ChatMessageWriter chatMessageWriter;
+    private final TitleGenerationQueue titleGenerationQueue;
+    private final PromptCacheMetrics promptCacheMetrics;
+    private final Scheduler chatBlockingScheduler;
+    private final MeterRegistry meterRegistry;
+
+    // false 면 스트림 시작 전 DB 작업을 요청(Tomcat) 스레드에서 수행 (분리 전 방식, 부하 테스트 비교용)
+    @Value("${chat.blocking.offload:true}")
+    private boolean offloadBlocking;
+
+    // 스트리밍 응답을 DB 에 이어 쓰는 단위 (토큰 개수 또는 시간 중 먼저 도달하는 쪽)
+    private static final int STREAM_FLUSH_TOKENS = 32;
+    private static final Duration STREAM_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+    // 한 번의 채팅 턴에서 스트림 시작 전에 준비해 두는 상태
+    private record ChatTurn(Long conversationId, boolean needsTitle, String messageText,
+                            ChatMemory chatMemory, Prompt prompt, boolean summarized, Long aiMessageId) {
+    }
 
+    /**
+     * 블로킹 DB 작업은 chatBlockingScheduler 에서 수행하고, 요청 스레드는 Flux 를 반환한 즉시 반납한다.
+     */
     public Flux<String> completeChat(ChatRequest request, String email) {
+        long startedAt = System.nanoTime();
+        Mono<ChatTurn> turn = Mono.fromCallable(() -> prepareChatTurn(request, email));
+        if (offloadBlocking) {
+            turn = turn.subscribeOn(chatBlockingScheduler);
+        }
+        return turn.flatMapMany(chatTurn -> streamAndPersist(chatTurn, startedAt));
+    }
+
+    private ChatTurn prepareChatTurn(ChatRequest request, String email) {
 
         String messageText = request.getMessage();
-        boolean isNewConversation = request.getConversationId() == null;
 
-        Conversation conversation = getOrGenerateConversation(request, email);
-        saveUserMessageToDatabase(messageText, conversation);
+        ChatContext context = getOrGenerateChatContext(request, email);
+        saveUserMessageToDatabase(messageText, context.getConversationId());
 
-        String conversationIdStr = conversation.getId().toString();
+        String conversationIdStr = context.getConversationId().toString();
 
         ChatMemory chatMemory = contextManager.getChatMemory();
         chatMemory.add(conversationIdStr, new UserMessage(messageText));
 
-        Prompt prompt = contextManager.getChatPrompt(conversationIdStr, chatMemory);
+        ContextManager.ChatPrompt chatPrompt = contextManager.getChatPrompt(context, chatMemory);
+        Long aiMessageId = chatMessageWriter.open(context.getConversationId());
+
+        return new ChatTurn(context.getConversationId(), !context.hasTitle(), messageText,
+                chatMemory, chatPrompt.prompt(), chatPrompt.summarized(), aiMessageId);
+    }
+
+    private Flux<String> streamAndPersist(ChatTurn turn, long startedAt) {
 
-        Flux<String> sharedStream = openAiChatModel.stream(prompt)
+        String conversationIdStr = turn.conversationId().toString();
+        AtomicBoolean firstTokenRecorded = new AtomicBoolean();
+
+        // 클라이언트와 DB 저장 파이프라인 두 구독자가 모두 붙은 뒤에 OpenAI 스트림 시작
+        Flux<String> sharedStream = chatModel.stream(turn.prompt())
                 .flatMap(response -> {
+                    // 마지막 usage 전용 청크에는 생성 결과가 없음
+                    if (response.getMetadata() != null && response.getMetadata().getUsage() != null) {
+                        promptCacheMetrics.record(turn.conversationId(), response.getMetadata().getUsage());
+                    }
+                    if (response.getResult() == null || response.getResult().getOutput() == null) {
+                        return Mono.empty();
+                    }
                     String token = response.getResult().getOutput().getText();
                     return token != null ? Mono.just(token) : Mono.empty();
                 })
-                .share();
+                .doOnNext(token -> {
+                    // 요청 수신부터 첫 토큰까지의 지연 (summarized=true 인 요약 턴에서도 튀지 않아야 함)
+                    if (firstTokenRecorded.compareAndSet(false, true)) {
+                        meterRegistry.timer("chat.first.token.latency", "summarized", String.valueOf(turn.summarized()))
+                                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    }
+                })
+                .publish()
+                .autoConnect(2);
 
+        // 전체 응답을 메모리에 모으지 않고 청크 묶음 단위로 DB 스테이징 행에 이어 쓰기
         sharedStream
-                .collect(Collectors.joining(""))
+                .bufferTimeout(STREAM_FLUSH_TOKENS, STREAM_FLUSH_INTERVAL)
+                .publishOn(chatBlockingScheduler)
+                .concatMap(tokens -> Mono.fromRunnable(
+                        () -> chatMessageWriter.appendChunk(turn.aiMessageId(), String.join("", tokens))))
+                .onErrorResume(e -> {
+                    log.error("AI 응답 스트리밍 중 오류 발생 (conversationId={})", turn.conversationId(), e);
+                    return Mono.empty();
+                })
+                .then(Mono.fromCallable(() -> chatMessageWriter.complete(turn.aiMessageId()))
+                        .subscribeOn(chatBlockingScheduler))
                 .flatMap(fullAiResponse -> {
                     if (!fullAiResponse.isEmpty()) {
-                        saveAiMessageToDatabase(fullAiResponse, conversation);
-                        chatMemory.add(conversationIdStr, new AssistantMessage(fullAiResponse));
+                        turn.chatMemory().add(conversationIdStr, new AssistantMessage(fullAiResponse));
 
-                        // 새 대화인 경우에만 제목 생성
-                        if (isNewConversation) {
-                            String firstChat = "user: " + messageText + "ai: " + fullAiResponse;
-                            generateAndSetConversationTitle(conversation.getId(), firstChat);
+                        // 아직 제목이 없는 대화인 경우에만 제목 생성
+                        if (turn.needsTitle()) {
+                            String firstChat = "user: " + turn.messageText() + "ai: " + fullAiResponse;
+                            titleGenerationQueue.enqueue(turn.conversationId(), firstChat);
                         }
                     }
                     return Mono.empty();
                 })
-                .doOnError(e -> System.err.println("DB 저장 또는 제목 생성 중 오류 발생: " + e.getMessage()))
+                .doOnError(e -> log.error("AI 응답 DB 저장 중 오류 발생 (conversationId={})", turn.conversationId(), e))
                 .subscribe();
 
         return sharedStream;
     }
 
-    @Transactional
-    private Conversation getOrGenerateConversation(ChatRequest request, String email) {
+    // 새 대화면 생성하고, 기존 대화면 소유자 확인까지 한 번의 프로젝션 쿼리로 처리
+    private ChatContext getOrGenerateChatContext(ChatRequest request, String email) {
 
-        boolean isNewConversation = request.getConversationId() == null;
-        Conversation conversation;
-
-        if (isNewConversation) {
+        if (request.getConversationId() == null) {
             User user = userRepository.findByEmail(email)
                     .orElseThrow(() -> new ResponseStatusException(
                             HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다: " + email)
                     );
-            conversation = new Conversation(user);
-        } else {
-            conversation = conversationRepository.findById(request.getConversationId())
-                    .orElseThrow(() -> new ResponseStatusException(
-                            HttpStatus.NOT_FOUND, "대화를 찾을 수 없습니다: " + request.getConversationId())
-                    );
-            if (!conversation.getUser().getEmail().equals(email)) {
-                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "이 대화에 접근할 권한이 없습니다.");
-            }
+            Conversation conversation = conversationRepository.save(new Conversation(user));
+            return new ChatContext(conversation.getId(), email, null, null);
         }
-        conversation.getChatMessages().size();
-        return conversation;
-    }
 
-    @Transactional
-    private void saveUserMessageToDatabase(String messageText, Conversation conversation) {
-
-        ChatMessage userMessage = new ChatMessage(Sender.USER, messageText, conversation);
-        conversation.addChatMessage(userMessage);
-
-        conversationRepository.save(conversation);
-    }
-
-    @Transactional
-    private void saveAiMessageToDatabase(String fullAiResponse, Conversation conversation) {
-        ChatMessage aiMessage = new ChatMessage(Sender.AI, fullAiResponse, conversation);
-        conversation.addChatMessage(aiMessage);
-
-        conversationRepository.save(conversation);
+        ChatContext context = conversationRepository.findChatContextById(request.getConversationId())
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND, "대화를 찾을 수 없습니다: " + request.getConversationId())
+                );
+        if (!context.getOwnerEmail().equals(email)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "이 대화에 접근할 권한이 없습니다.");
+        }
+        return context;
     }
 
-    @Transactional
-    private void generateAndSetConversationTitle(Long conversationId, String firstChat) {
-
-        Prompt titlePrompt = contextManager.getTitleGenerationPrompt(firstChat);
-
-        String generatedTitle = Objects
-                .requireNonNull(openAiChatModel.call(titlePrompt).getResult().getOutput().getText()).trim();
-
-        conversationService.updateConversationTitle(conversationId, generatedTitle);
+    // 대화의 메시지 컬렉션을 건드리지 않고 메시지 한 건만 INSERT
+    private void saveUserMessageToDatabase(String messageText, Long conversationId) {
+        chatMessageWriter.append(conversationId, Sender.USER, messageText);
     }
 }
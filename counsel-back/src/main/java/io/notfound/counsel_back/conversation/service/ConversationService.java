@@ -1,37 +1,59 @@
 package io.notfound.counsel_back.conversation.service;
 
+import io.notfound.counsel_back.conversation.dto.ChatMessagePageResponse;
 import io.notfound.counsel_back.conversation.dto.ChatMessageResponse;
 import io.notfound.counsel_back.conversation.dto.ConversationDetailResponse;
 import io.notfound.counsel_back.conversation.dto.ConversationListResponse;
+import io.notfound.counsel_back.conversation.dto.ConversationPageResponse;
 import io.notfound.counsel_back.conversation.dto.ConversationUpdateRequest;
 import io.notfound.counsel_back.conversation.entity.Conversation;
+import io.notfound.counsel_back.conversation.repository.ChatMessageRepository;
 import io.notfound.counsel_back.conversation.repository.ConversationRepository;
-import io.notfound.counsel_back.user.entity.User;
-import io.notfound.counsel_back.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ConversationService {
 
     private final ConversationRepository conversationRepository;
-    private final UserRepository userRepository;
-    
-    // 전체 대화 목록 조회
+    private final ChatMessageRepository chatMessageRepository;
+
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+    private static final int MAX_CONVERSATION_PAGE_SIZE = 100;
+    private static final int DEFAULT_CONVERSATION_PAGE_SIZE = 20;
+
+    // 대화 목록 키셋 페이지 조회 (최신순, 커서가 없으면 첫 페이지 / 있으면 (cursorCreatedAt, cursorId) 이후 페이지)
     @Transactional(readOnly = true)
-    public List<ConversationListResponse> getConversationsByUser(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다: " + email));
-        return conversationRepository.findByUserOrderByCreatedAtDesc(user).stream()
-                .map(this::convertToListDto)
-                .toList();
+    public ConversationPageResponse getConversationsByUser(
+            String email, LocalDateTime cursorCreatedAt, Long cursorId, Integer limit) {
+        int pageSize = (limit == null)
+                ? DEFAULT_CONVERSATION_PAGE_SIZE
+                : Math.max(1, Math.min(limit, MAX_CONVERSATION_PAGE_SIZE));
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<ConversationListResponse> rows = (cursorCreatedAt == null || cursorId == null)
+                ? conversationRepository.findListByUserEmail(email, pageable)
+                : conversationRepository.findListByUserEmailBefore(email, cursorCreatedAt, cursorId, pageable);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ConversationListResponse> page = hasMore ? rows.subList(0, pageSize) : rows;
+        ConversationListResponse last = hasMore ? page.get(page.size() - 1) : null;
+        return new ConversationPageResponse(page,
+                last != null ? last.getCreatedAt() : null,
+                last != null ? last.getId() : null,
+                hasMore);
     }
 
     // 특정 대화 상세 조회
@@ -46,6 +68,31 @@ public class ConversationService {
         return convertToDetailDto(conversation);
     }
 
+    // 특정 대화 메시지 커서 페이지 조회 (before 가 없으면 가장 최근 메시지부터)
+    @Transactional(readOnly = true)
+    public ChatMessagePageResponse getConversationMessages(Long conversationId, Long before, int limit, String email) {
+        String ownerEmail = conversationRepository.findOwnerEmailById(conversationId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "대화를 찾을 수 없습니다: " + conversationId));
+
+        if (!ownerEmail.equals(email)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "이 대화에 접근할 권한이 없습니다.");
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_MESSAGE_PAGE_SIZE));
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<ChatMessageResponse> rows = (before == null)
+                ? chatMessageRepository.findLatestPage(conversationId, pageable)
+                : chatMessageRepository.findPageBefore(conversationId, before, pageable);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ChatMessageResponse> page = new ArrayList<>(hasMore ? rows.subList(0, pageSize) : rows);
+        Long nextCursor = hasMore ? page.get(page.size() - 1).getId() : null;
+        Collections.reverse(page);
+
+        return new ChatMessagePageResponse(page, nextCursor, hasMore);
+    }
+
     // 대화 수정 (제목, 요약)
     @Transactional
     public ConversationDetailResponse updateConversation(
@@ -104,20 +151,10 @@ public class ConversationService {
     }
 
     // DTO 변환 메서드 (내부적으로 사용)
-    private ConversationListResponse convertToListDto(Conversation conversation) {
-        return new ConversationListResponse(
-                conversation.getId(),
-                conversation.getTitle() != null ? conversation.getTitle() : "새로운 고민 상담",
-                conversation.getCreatedAt()
-        );
-    }
-
     private ConversationDetailResponse convertToDetailDto(Conversation conversation) {
-        List<ChatMessageResponse> chatMessages = conversation.getChatMessages().stream()
-                .map(msg -> new ChatMessageResponse(
-                        msg.getId(), msg.getMessage(), msg.getSender().name())
-                )
-                .collect(Collectors.toList());
+        // 메시지 컬렉션을 초기화하지 않고 DTO 프로젝션으로 한 번에 조회
+        List<ChatMessageResponse> chatMessages =
+                chatMessageRepository.findResponsesByConversationId(conversation.getId());
         return new ConversationDetailResponse(
                 conversation.getId(),
                 conversation.getTitle(),
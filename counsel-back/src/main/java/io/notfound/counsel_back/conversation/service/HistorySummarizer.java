@@ -0,0 +1,111 @@
+package io.notfound.counsel_back.conversation.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.notfound.counsel_back.conversation.repository.ConversationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * 최근 대화 윈도우를 요약해 Conversation.history 에 반영하는 컴포넌트.
+ * LLM 호출은 트랜잭션 밖에서 수행하고, 결과만 단건 UPDATE 로 저장한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class HistorySummarizer {
+
+    private final ChatModel chatModel;
+    private final ConversationRepository conversationRepository;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final MeterRegistry meterRegistry;
+    private final OpenAiChatOptions options = OpenAiChatOptions.builder()
+            .model(OpenAiApi.ChatModel.GPT_4_O)
+            .build();
+
+    private static final int MAX_HISTORY_CONDENSE_ROUNDS = 3;
+
+    // history(누적 요약) 블록이 유지할 최대 토큰 수
+    @Value("${chat.history.token-budget:1500}")
+    private int historyTokenBudget;
+
+    private static final String HISTORY_UPDATE_PROMPT = """
+            다음 대화를 요약해서 정리해 줘. 요약은 순수 텍스트로만 하고,
+            이모지나 마크다운 문법은 사용하지 말아줘.
+            각 메시지를 다음 형식으로 요약해 줘:
+            user: [사용자가 표현한 내용 요약]
+            ai: [AI가 응답한 내용 요약]
+            """;
+    private static final String HISTORY_CONDENSE_PROMPT = """
+            다음은 이전 대화들의 요약본이야. 상담 맥락(사용자의 고민, 감정 변화, 중요한 사실)은 유지하면서
+            %d 토큰 이내로 더 짧게 다시 요약해 줘. 요약은 순수 텍스트로만 하고,
+            이모지나 마크다운 문법은 사용하지 말아줘.
+            """;
+
+    public void summarize(String conversationId, List<Message> recentMessages) {
+        Long id = Long.parseLong(conversationId);
+        // history 업데이트만 필요하므로 history 컬럼만 조회 (비어 있거나 삭제된 대화면 빈 문자열)
+        String historyBefore = conversationRepository.findHistoryById(id).orElse("");
+
+        String requestContent = buildHistoryUpdateRequest(recentMessages);
+        List<Message> historyUpdateRequest = List.of(new SystemMessage(requestContent));
+
+        Prompt historyPrompt = new Prompt(historyUpdateRequest, options);
+        String historyRecent = chatModel.call(historyPrompt).getResult().getOutput().getText();
+
+        String updatedHistory = fitHistoryToBudget(historyBefore, historyRecent);
+        // 요약 도중 대화가 삭제되었다면 갱신 대상이 없으므로 그대로 종료
+        conversationRepository.updateHistory(id, updatedHistory);
+        meterRegistry.summary("chat.history.tokens").record(tokenCountEstimator.estimate(updatedHistory));
+    }
+
+    // 요약 요청 본문 조립 (user/ai 메시지만 "user: ...", "ai: ..." 한 줄씩)
+    static String buildHistoryUpdateRequest(List<Message> recentMessages) {
+        StringBuilder conversationText = new StringBuilder();
+        for (Message message : recentMessages) {
+            if (message instanceof UserMessage) {
+                conversationText.append("user: ").append(message.getText()).append("\n");
+            } else if (message instanceof AssistantMessage) {
+                conversationText.append("ai: ").append(message.getText()).append("\n");
+            }
+        }
+        return HISTORY_UPDATE_PROMPT + "\n\n대화 내용:\n" + conversationText;
+    }
+
+    /**
+     * 새 요약을 이어 붙였을 때 토큰 예산을 넘으면, 최근 요약은 그대로 두고
+     * 이전 요약(요약의 요약)만 남은 예산에 맞게 다시 압축한다.
+     */
+    String fitHistoryToBudget(String historyBefore, String historyRecent) {
+        String recent = historyRecent != null ? historyRecent : "";
+        String older = historyBefore;
+        String merged = StringUtils.hasText(older) ? older + "\n" + recent : recent;
+
+        for (int round = 0; round < MAX_HISTORY_CONDENSE_ROUNDS
+                && StringUtils.hasText(older)
+                && tokenCountEstimator.estimate(merged) > historyTokenBudget; round++) {
+            int olderBudget = Math.max(historyTokenBudget - tokenCountEstimator.estimate(recent), historyTokenBudget / 4);
+            older = condenseHistory(older, olderBudget);
+            merged = older + "\n" + recent;
+        }
+        return merged;
+    }
+
+    private String condenseHistory(String history, int targetTokens) {
+        String requestContent = HISTORY_CONDENSE_PROMPT.formatted(targetTokens) + "\n\n이전 요약:\n" + history;
+        Prompt condensePrompt = new Prompt(List.of(new SystemMessage(requestContent)), options);
+        String condensed = chatModel.call(condensePrompt).getResult().getOutput().getText();
+        return condensed != null ? condensed.trim() : "";
+    }
+}
@@ -0,0 +1,165 @@
+package io.notfound.counsel_back.conversation.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대화 history 요약 작업 큐.
+ * 채팅 요청 스레드는 enqueue 만 하고 즉시 돌아가며, 요약 LLM 호출은 전용 워커 스레드에서 수행한다.
+ * - 대화별 중복 제거: 같은 대화의 작업이 대기/실행 중이면 메시지를 합쳐 한 번에 요약
+ * - 대화별 직렬화: 한 대화의 요약은 동시에 하나만 실행되어 history 갱신이 유실되지 않음
+ * - 재시도: 실패 시 지수 백오프로 최대 MAX_ATTEMPTS 회 (대기는 별도 스케줄러에서, 워커 스레드는 바로 반납)
+ * - 큐 포화: 새 작업은 거절(false)하고, 이미 받은 메시지는 pending 에 남겨 다음 예약 때 요약
+ */
+@Slf4j
+@Component
+public class HistorySummaryQueue {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long INITIAL_BACKOFF_MILLIS = 1000L;
+
+    private final HistorySummarizer historySummarizer;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    // 실패한 요약의 재시도 시점까지 대기 (워커 스레드에서 sleep 하지 않도록 분리)
+    private final ScheduledExecutorService retryScheduler;
+
+    private final Map<String, List<Message>> pending = new ConcurrentHashMap<>();
+    private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
+
+    public HistorySummaryQueue(HistorySummarizer historySummarizer,
+                               MeterRegistry meterRegistry,
+                               @Value("${chat.history.workers:2}") int workers,
+                               @Value("${chat.history.queue-size:500}") int queueSize) {
+        this.historySummarizer = historySummarizer;
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                r -> {
+                    Thread thread = new Thread(r, "history-summary-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "history-summary-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        meterRegistry.gauge("chat.history.queue.pending", pending, Map::size);
+    }
+
+    /**
+     * 요약할 메시지를 등록한다. 이미 같은 대화의 작업이 있으면 메시지만 이어 붙인다.
+     * 큐가 가득 차 받지 못하면 false 를 반환하고 메시지는 등록하지 않는다 (호출 측이 메모리에 그대로 두고 다음 턴에 재시도).
+     */
+    public boolean enqueue(String conversationId, List<Message> messages) {
+        List<Message> added = List.copyOf(messages);
+        pending.merge(conversationId, added, HistorySummaryQueue::concat);
+        if (schedule(conversationId)) {
+            return true;
+        }
+        // 방금 붙인 메시지만 되돌림 (이전에 남아 있던 메시지는 다음 예약 때 함께 요약)
+        pending.computeIfPresent(conversationId, (id, current) -> current.size() > added.size()
+                ? List.copyOf(current.subList(0, current.size() - added.size()))
+                : null);
+        return false;
+    }
+
+    // 예약 성공(또는 이미 예약/실행 중)이면 true, 큐가 가득 차 거절되면 false (pending 은 유지)
+    private boolean schedule(String conversationId) {
+        if (!scheduled.add(conversationId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> drain(conversationId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            scheduled.remove(conversationId);
+            meterRegistry.counter("chat.history.jobs", "result", "rejected").increment();
+            log.warn("요약 큐가 가득 차 예약하지 못함 (conversationId={})", conversationId);
+            return false;
+        }
+    }
+
+    private void drain(String conversationId) {
+        List<Message> messages = pending.remove(conversationId);
+        if (messages == null || messages.isEmpty()) {
+            finish(conversationId);
+            return;
+        }
+        attempt(conversationId, messages, 1);
+    }
+
+    // 요약 1회 시도, 실패 시 워커를 붙잡지 않고 백오프 후 재시도를 예약 (그동안 같은 대화는 예약 상태 유지)
+    private void attempt(String conversationId, List<Message> messages, int attempt) {
+        try {
+            historySummarizer.summarize(conversationId, messages);
+            meterRegistry.counter("chat.history.jobs", "result", "success").increment();
+        } catch (Exception e) {
+            log.warn("history 요약 실패 (conversationId={}, attempt={}/{}): {}",
+                    conversationId, attempt, MAX_ATTEMPTS, e.getMessage());
+            if (attempt < MAX_ATTEMPTS) {
+                long backoff = INITIAL_BACKOFF_MILLIS << (attempt - 1);
+                try {
+                    retryScheduler.schedule(() -> retry(conversationId, messages, attempt + 1),
+                            backoff, TimeUnit.MILLISECONDS);
+                    return;
+                } catch (RejectedExecutionException re) {
+                    log.warn("종료 중이라 요약 재시도를 예약하지 못함 (conversationId={})", conversationId);
+                }
+            }
+            meterRegistry.counter("chat.history.jobs", "result", "failure").increment();
+        }
+        finish(conversationId);
+    }
+
+    private void retry(String conversationId, List<Message> messages, int attempt) {
+        try {
+            executor.execute(() -> attempt(conversationId, messages, attempt));
+        } catch (RejectedExecutionException e) {
+            // 워커 큐가 가득 차면 메시지를 pending 앞쪽에 되돌려 다음 예약 때 함께 요약
+            pending.merge(conversationId, messages, (current, retried) -> concat(retried, current));
+            meterRegistry.counter("chat.history.jobs", "result", "rejected").increment();
+            finish(conversationId);
+        }
+    }
+
+    private void finish(String conversationId) {
+        scheduled.remove(conversationId);
+        // 실행 중에 같은 대화로 새 작업이 들어왔다면 다시 예약
+        if (pending.containsKey(conversationId)) {
+            schedule(conversationId);
+        }
+    }
+
+    private static List<Message> concat(List<Message> first, List<Message> second) {
+        List<Message> merged = new ArrayList<>(first);
+        merged.addAll(second);
+        return merged;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+        executor.shutdown();
+    }
+}
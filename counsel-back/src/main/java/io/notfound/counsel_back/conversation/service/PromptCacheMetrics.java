@@ -0,0 +1,80 @@
+package io.notfound.counsel_back.conversation.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * OpenAI 응답의 usage 에서 프롬프트 캐시 적중(cached_tokens) 정보를 기록한다.
+ * 대화 id 를 태그로 쓰면 시계열이 대화 수만큼 늘어나므로, 대화를 턴 수 구간(turns)으로 묶어 기록한다.
+ * (프롬프트 캐시는 같은 대화의 앞부분이 반복될 때 적중하므로 턴 수별 적중률로 대화 단위 효과를 볼 수 있다)
+ * - chat.prompt.input.tokens / chat.prompt.cached.tokens{turns}: 구간별 토큰 가중 적중률 = cached / input
+ * - chat.prompt.cache.hit.ratio{turns}: 구간별 턴 단위 적중률 분포
+ */
+@Slf4j
+@Component
+public class PromptCacheMetrics {
+
+    // 턴 수 구간 상한 (마지막 구간은 그 이상 전부)
+    private static final int[] TURN_BUCKET_BOUNDS = {1, 5, 10, 20};
+
+    private final MeterRegistry meterRegistry;
+    // 대화 id → 지금까지 기록된 턴 수 (최근 대화만 유지, 밀려난 대화는 1턴부터 다시 셈)
+    private final Map<Long, Integer> turnCounts;
+
+    public PromptCacheMetrics(MeterRegistry meterRegistry,
+                              @Value("${chat.prompt.cache.tracked-conversations:10000}") int trackedConversations) {
+        this.meterRegistry = meterRegistry;
+        this.turnCounts = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Integer> eldest) {
+                return size() > trackedConversations;
+            }
+        });
+    }
+
+    public void record(Long conversationId, Usage usage) {
+        if (usage == null || usage.getPromptTokens() == null || usage.getPromptTokens() == 0) {
+            return;
+        }
+        int promptTokens = usage.getPromptTokens();
+        int cachedTokens = cachedTokens(usage);
+        String turns = turnBucket(turnCounts.merge(conversationId, 1, Integer::sum));
+
+        meterRegistry.counter("chat.prompt.input.tokens", "turns", turns).increment(promptTokens);
+        meterRegistry.counter("chat.prompt.cached.tokens", "turns", turns).increment(cachedTokens);
+
+        double hitRatio = (double) cachedTokens / promptTokens;
+        meterRegistry.summary("chat.prompt.cache.hit.ratio", "turns", turns).record(hitRatio);
+        log.debug("프롬프트 캐시 적중 (conversationId={}, turns={}, prompt={}, cached={}, ratio={})",
+                conversationId, turns, promptTokens, cachedTokens, String.format("%.2f", hitRatio));
+    }
+
+    // 1, 2-5, 6-10, 11-20, 21+
+    static String turnBucket(int turn) {
+        int lower = 1;
+        for (int upper : TURN_BUCKET_BOUNDS) {
+            if (turn <= upper) {
+                return lower == upper ? String.valueOf(upper) : lower + "-" + upper;
+            }
+            lower = upper + 1;
+        }
+        return lower + "+";
+    }
+
+    private int cachedTokens(Usage usage) {
+        if (usage.getNativeUsage() instanceof OpenAiApi.Usage openAiUsage
+                && openAiUsage.promptTokensDetails() != null
+                && openAiUsage.promptTokensDetails().cachedTokens() != null) {
+            return openAiUsage.promptTokensDetails().cachedTokens();
+        }
+        return 0;
+    }
+}
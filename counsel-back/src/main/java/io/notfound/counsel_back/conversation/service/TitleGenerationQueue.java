@@ -0,0 +1,208 @@
+package io.notfound.counsel_back.conversation.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 새 대화 제목 생성 큐.
+ * 스트리밍 스레드는 첫 대화 내용만 등록하고, 전용 스레드가 주기적으로 대기 중인 대화를 모아
+ * 한 번의 LLM 요청으로 여러 제목을 생성한 뒤 한 번의 JDBC 배치 UPDATE 로 저장한다.
+ * 묶음 응답이 요청과 맞지 않으면 대화별 단건 요청으로 되돌아간다.
+ * 제목을 받지 못한 대화는 title 이 비어 있으므로 다음 채팅 턴에서 다시 등록된다.
+ */
+@Slf4j
+@Component
+public class TitleGenerationQueue {
+
+    private static final String UPDATE_TITLE_SQL =
+            "UPDATE conversation SET title = ? WHERE id = ? AND title IS NULL";
+    private static final int MAX_FIRST_CHAT_LENGTH = 500;
+    private static final int MAX_TITLE_LENGTH = 50;
+
+    private final ChatModel chatModel;
+    private final ContextManager contextManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+
+    private final Map<Long, String> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor;
+
+    public TitleGenerationQueue(ChatModel chatModel,
+                                ContextManager contextManager,
+                                JdbcTemplate jdbcTemplate,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${chat.title.batch-size:20}") int batchSize,
+                                @Value("${chat.title.flush-interval-millis:2000}") long flushIntervalMillis) {
+        this.chatModel = chatModel;
+        this.contextManager = contextManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "title-generation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 제목 생성 대상 등록. 같은 대화가 이미 대기 중이면 먼저 등록된 첫 대화 내용을 유지한다.
+     */
+    public void enqueue(Long conversationId, String firstChat) {
+        String trimmed = firstChat.length() > MAX_FIRST_CHAT_LENGTH
+                ? firstChat.substring(0, MAX_FIRST_CHAT_LENGTH)
+                : firstChat;
+        pending.putIfAbsent(conversationId, trimmed);
+    }
+
+    void flush() {
+        while (!pending.isEmpty()) {
+            Map<Long, String> batch = takeBatch();
+            if (batch.isEmpty()) {
+                return;
+            }
+            Map<Long, String> titles = generateTitles(batch);
+            saveTitles(titles);
+            meterRegistry.counter("chat.title.generated").increment(titles.size());
+            if (titles.size() < batch.size()) {
+                meterRegistry.counter("chat.title.failed").increment(batch.size() - titles.size());
+            }
+        }
+    }
+
+    private Map<Long, String> takeBatch() {
+        Map<Long, String> batch = new LinkedHashMap<>();
+        Iterator<Map.Entry<Long, String>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            Map.Entry<Long, String> entry = iterator.next();
+            batch.put(entry.getKey(), entry.getValue());
+            iterator.remove();
+        }
+        return batch;
+    }
+
+    /**
+     * 묶음 요청 응답이 요청한 id 와 정확히 일치하고 모든 제목이 검증을 통과할 때만 그대로 쓰고,
+     * 그렇지 않으면 다른 대화 내용이 섞이지 않도록 대화마다 한 건씩 다시 요청한다.
+     */
+    private Map<Long, String> generateTitles(Map<Long, String> batch) {
+        if (batch.size() > 1) {
+            Map<Long, String> titles = requestTitles(batch);
+            if (titles != null && titles.size() == batch.size()) {
+                return titles;
+            }
+            meterRegistry.counter("chat.title.batch.fallback").increment();
+            log.warn("대화 제목 묶음 응답이 요청과 맞지 않아 대화별로 재요청 (count={})", batch.size());
+        }
+
+        Map<Long, String> titles = new LinkedHashMap<>();
+        batch.forEach((conversationId, firstChat) -> {
+            Map<Long, String> single = requestTitles(Map.of(conversationId, firstChat));
+            if (single != null) {
+                titles.putAll(single);
+            }
+        });
+        return titles;
+    }
+
+    // 응답을 검증해 통과한 제목만 반환, 형식이 틀리거나 요청에 없는 id 가 있으면 null
+    private Map<Long, String> requestTitles(Map<Long, String> batch) {
+        try {
+            Prompt prompt = contextManager.getTitleGenerationPrompt(batch);
+            String response = chatModel.call(prompt).getResult().getOutput().getText();
+            if (!StringUtils.hasText(response)) {
+                return null;
+            }
+
+            // 응답이 코드 블록으로 감싸져 올 수 있으므로 JSON 객체 부분만 추출
+            int start = response.indexOf('{');
+            int end = response.lastIndexOf('}');
+            if (start < 0 || end <= start) {
+                return null;
+            }
+            Map<String, String> parsed = objectMapper.readValue(
+                    response.substring(start, end + 1), new TypeReference<Map<String, String>>() {
+                    });
+
+            Map<Long, String> titles = new LinkedHashMap<>();
+            for (Map.Entry<String, String> entry : parsed.entrySet()) {
+                Long conversationId = parseId(entry.getKey());
+                if (conversationId == null || !batch.containsKey(conversationId)) {
+                    return null;
+                }
+                String title = validTitle(entry.getValue(), conversationId, batch);
+                if (title != null) {
+                    titles.put(conversationId, title);
+                }
+            }
+            return titles;
+        } catch (Exception e) {
+            log.error("대화 제목 생성 실패 (count={}): {}", batch.size(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static Long parseId(String key) {
+        try {
+            return Long.valueOf(key.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 한 줄, 길이 제한 이내, 다른 대화의 원문을 그대로 옮기지 않은 제목만 허용
+    private static String validTitle(String title, Long conversationId, Map<Long, String> batch) {
+        if (!StringUtils.hasText(title)) {
+            return null;
+        }
+        String trimmed = title.trim();
+        if (trimmed.length() > MAX_TITLE_LENGTH || trimmed.chars().anyMatch(Character::isISOControl)) {
+            return null;
+        }
+        for (Map.Entry<Long, String> other : batch.entrySet()) {
+            if (!other.getKey().equals(conversationId) && other.getValue().contains(trimmed)) {
+                return null;
+            }
+        }
+        return trimmed;
+    }
+
+    // 사용자가 이미 제목을 수정한 대화는 덮어쓰지 않음 (title IS NULL 조건)
+    private void saveTitles(Map<Long, String> titles) {
+        if (titles.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(titles.size());
+        titles.forEach((conversationId, title) -> args.add(new Object[]{title, conversationId}));
+        jdbcTemplate.batchUpdate(UPDATE_TITLE_SQL, args);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
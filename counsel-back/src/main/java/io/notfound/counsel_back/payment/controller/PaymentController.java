@@ -1,7 +1,7 @@
 package io.notfound.counsel_back.payment.controller;
 
 import io.notfound.counsel_back.payment.service.PaymentService;
-import io.notfound.counsel_back.security.core.CustomUserDetails;
+import io.notfound.counsel_back.security.core.AuthenticatedUser;
 import io.notfound.counsel_back.user.service.UserService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -24,7 +24,7 @@ public class PaymentController {
 
     // 사용자의 이용권 상태 조회
     @GetMapping("/access-status")
-    public ResponseEntity<Map<String, Object>> getAccessStatus(@AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ResponseEntity<Map<String, Object>> getAccessStatus(@AuthenticationPrincipal AuthenticatedUser userDetails) {
         Long userId = userDetails.getUserId();
 
         Map<String, Object> response = new HashMap<>();
@@ -35,7 +35,7 @@ public class PaymentController {
     // 결제 검증 및 이용권 갱신
     @PostMapping("/verify")
     public ResponseEntity<String> verifyPayment(
-            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @AuthenticationPrincipal AuthenticatedUser userDetails,
             @RequestBody Map<String, String> paymentData
     ) {
         Long userId = userDetails.getUserId();
@@ -51,7 +51,7 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/oauth2/authorization/**", "/login/oauth2/code/**", "/login").permitAll()
                 .requestMatchers(HttpMethod.GET, "/board/**", "/login/oauth2/code/**", "/login").permitAll()
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
-                .requestMatchers("/api/conversations/chat").permitAll()
+                .requestMatchers("/api/conversations/chat", "/api/conversations/chat/sse").permitAll()
                 .requestMatchers("/error").permitAll()
                 .anyRequest().authenticated(); // 나머지 모든 요청은 인증 필요
     }
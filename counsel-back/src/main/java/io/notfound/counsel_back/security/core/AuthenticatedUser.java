@@ -0,0 +1,13 @@
+package io.notfound.counsel_back.security.core;
+
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 인증된 사용자 주체의 공통 타입.
+ * DB 에서 읽은 사용자(CustomUserDetails)와 JWT claims 로 만든 사용자(ClaimsUserDetails) 모두
+ * 사용자 PK, 이메일(getUsername), 권한만 보장한다. 그 밖의 사용자 정보는 UserService 로 조회한다.
+ */
+public interface AuthenticatedUser extends UserDetails {
+
+    Long getUserId();
+}
@@ -0,0 +1,51 @@
+package io.notfound.counsel_back.security.core;
+
+import io.notfound.counsel_back.user.entity.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JWT claims(uid, subject, roles)만으로 만든 인증 주체 (DB 조회 없음).
+ * 토큰에 담긴 값만 가지므로 User 엔티티를 흉내 내지 않고 id/이메일/권한만 노출한다.
+ */
+public final class ClaimsUserDetails implements AuthenticatedUser {
+
+    private final Long userId;
+    private final String email;
+    private final List<GrantedAuthority> authorities;
+
+    public ClaimsUserDetails(Long userId, String email, UserRole role) {
+        this.userId = userId;
+        this.email = email;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public Long getUserId() {
+        return userId;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    // 토큰 인증이므로 비밀번호 없음
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override public boolean isAccountNonExpired() { return true; }
+    @Override public boolean isAccountNonLocked() { return true; }
+    @Override public boolean isCredentialsNonExpired() { return true; }
+    @Override public boolean isEnabled() { return true; }
+}
@@ -4,7 +4,6 @@ import io.notfound.counsel_back.user.entity.User;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
 import java.util.Collection;
@@ -16,7 +15,7 @@ import java.util.Map;
  * Spring Security의 인증 정보(Principal)로 사용됩니다.
  */
 @Getter
-public class CustomUserDetails implements UserDetails, OAuth2User {
+public class CustomUserDetails implements AuthenticatedUser, OAuth2User {
 
     private final User user;
     private final Map<String, Object> attributes;
@@ -65,6 +64,7 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
     }
 
     // 편의 메서드
+    @Override
     public Long getUserId() {
         return user.getId();
     }
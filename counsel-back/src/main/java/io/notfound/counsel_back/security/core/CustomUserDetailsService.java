@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * 사용자 이메일을 통해 DB에서 사용자 정보를 불러와 CustomUserDetails 객체로 반환합니다.
@@ -26,12 +27,15 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        // 1. 이메일을 사용하여 DB에서 사용자를 찾습니다.
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + email));
+        // 짧은 TTL 캐시에 없을 때만 DB 조회
+        return userPrincipalCache.get(email, () -> {
+            // 1. 이메일을 사용하여 DB에서 사용자를 찾습니다.
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new UsernameNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + email));
 
-        // 2. 찾아온 User 엔티티 정보를 CustomUserDetails 타입으로 변환하여 반환합니다.
-        //    CustomUserDetails 내에서 비밀번호 필드(null)를 안전하게 처리합니다.
-        return new CustomUserDetails(user);
+            // 2. 찾아온 User 엔티티 정보를 CustomUserDetails 타입으로 변환하여 반환합니다.
+            //    CustomUserDetails 내에서 비밀번호 필드(null)를 안전하게 처리합니다.
+            return new CustomUserDetails(user);
+        });
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package io.notfound.counsel_back.security.core;
 
+import io.jsonwebtoken.Claims;
 import io.notfound.counsel_back.auth.service.TokenBlacklistService;
 import io.notfound.counsel_back.security.core.JwtTokenProvider;
 import jakarta.servlet.FilterChain;
@@ -16,6 +17,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -32,13 +34,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String jwtToken = extractTokenFromCookies(request);
 
         try {  // permitAll 요청에서 토큰 없거나 예외 발생 시에도 통과
-            if (StringUtils.hasText(jwtToken) && jwtTokenProvider.validateToken(jwtToken)) {
-                // 블랙리스트 확인
-                if (tokenBlacklistService.isBlacklisted(jwtToken)) {
+            // 토큰 검증은 한 번만 하고, 검증된 claims 로 인증 객체 생성
+            Optional<Claims> claims = StringUtils.hasText(jwtToken)
+                    ? jwtTokenProvider.getValidClaims(jwtToken)
+                    : Optional.empty();
+            if (claims.isPresent()) {
+                // 블랙리스트 확인 (검증된 claims 를 넘겨 다시 파싱하지 않음)
+                if (tokenBlacklistService.isBlacklisted(jwtToken, claims.get())) {
                     log.warn("블랙리스트된 토큰으로 접근 시도");
                     SecurityContextHolder.clearContext();
                 } else {
-                    Authentication authentication = jwtTokenProvider.getAuthentication(jwtToken);
+                    Authentication authentication = jwtTokenProvider.getAuthentication(claims.get());
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
             }
@@ -14,7 +14,17 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * JWT(Json Web Token)의 생성, 검증, 파싱을 담당하는 유틸리티 클래스입니다.
@@ -24,10 +34,29 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLES_CLAIM = "roles";
+    // 토큰 종류 (access/refresh), 사용자 단위 액세스 토큰 만료에서 리프레시 토큰을 구분하는 데 사용
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final SecretKey secretKey;
     private final long accessTokenValidTime;
     private final long refreshTokenValidTime;
     private final UserDetailsService userDetailsService;
+    // true 면 uid/roles claim 이 있는 토큰은 DB 조회 없이 claims 로 인증 주체를 만든다
+    private final boolean statelessPrincipal;
+    // 서명 키가 고정이므로 파서는 한 번만 만들어 재사용 (thread-safe)
+    private final JwtParser jwtParser;
+    // 검증이 끝난 토큰의 claims (key: 토큰 SHA-256 해시, 만료 시각이 지나면 사용하지 않음)
+    // 조회가 모든 인증 요청 경로에 있으므로 전역 락 없는 ConcurrentHashMap 을 쓰고, 크기 초과 시에만 정리한다
+    private final Map<String, VerifiedClaims> claimsCache = new ConcurrentHashMap<>();
+    private final int claimsCacheSize;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private record VerifiedClaims(Claims claims, long expiresAt) {
+    }
 
     /**
      * 의존성 주입을 통해 JWT 설정값을 초기화합니다.
@@ -36,28 +65,39 @@ public class JwtTokenProvider {
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-expiration-minutes}") int accessTokenExpirationMinutes,
             @Value("${jwt.refresh-token-expiration-days}") int refreshTokenExpirationDays,
+            @Value("${jwt.claims-cache-size:10000}") int claimsCacheSize,
+            @Value("${jwt.stateless-principal:true}") boolean statelessPrincipal,
             UserDetailsService userDetailsService) {
 
         this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
         this.accessTokenValidTime = (long) accessTokenExpirationMinutes * 60 * 1000L;
         this.refreshTokenValidTime = (long) refreshTokenExpirationDays * 24 * 60 * 60 * 1000L;
         this.userDetailsService = userDetailsService;
+        this.statelessPrincipal = statelessPrincipal;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.claimsCacheSize = claimsCacheSize;
     }
 
     /**
      * JWT 토큰의 유효성을 검증합니다.
      */
     public boolean validateToken(String jwtToken) {
+        return getValidClaims(jwtToken).isPresent();
+    }
+
+    /**
+     * 토큰을 검증하고 claims 를 반환합니다. 유효하지 않으면 빈 값을 반환합니다.
+     * 요청 한 번에 서명 검증은 최대 한 번만 일어나도록 필터는 이 메서드 결과를 그대로 사용합니다.
+     */
+    public Optional<Claims> getValidClaims(String jwtToken) {
         if (jwtToken == null || jwtToken.trim().isEmpty()) {
             log.warn("Token is empty or null.");
-            return false;
+            return Optional.empty();
         }
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(jwtToken);
-            return true;
+            return Optional.of(getClaims(jwtToken));
         } catch (ExpiredJwtException e) {
             log.info("Token expired: {}", e.getMessage());
         } catch (UnsupportedJwtException | MalformedJwtException | SignatureException e) {
@@ -65,33 +105,76 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.warn("JWT token is invalid: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * 검증된 claims 를 반환합니다. 캐시에 있고 아직 만료 전이면 서명 검증을 생략합니다.
+     */
+    public Claims getClaims(String token) throws JwtException {
+        String cacheKey = hash(token);
+        VerifiedClaims cached = claimsCache.get(cacheKey);
+        if (cached != null) {
+            if (cached.expiresAt() > System.currentTimeMillis()) {
+                return cached.claims();
+            }
+            claimsCache.remove(cacheKey);
+        }
+
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        claimsCache.put(cacheKey, new VerifiedClaims(claims, claims.getExpiration().getTime()));
+        if (claimsCache.size() > claimsCacheSize) {
+            evictClaims();
+        }
+        return claims;
+    }
+
+    // 만료된 항목을 먼저 지우고, 그래도 넘치면 임의 항목을 지워 용량의 90% 까지 줄임 (한 스레드만 수행)
+    private void evictClaims() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            claimsCache.values().removeIf(verified -> verified.expiresAt() <= now);
+            int target = claimsCacheSize - claimsCacheSize / 10;
+            Iterator<String> keys = claimsCache.keySet().iterator();
+            while (claimsCache.size() > target && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
     }
 
     /**
      * 액세스 토큰을 생성합니다.
      */
-    public String createAccessToken(String subject, UserRole roles) {
-        return buildToken(subject, roles, accessTokenValidTime);
+    public String createAccessToken(Long userId, String subject, UserRole roles) {
+        return buildToken(userId, subject, roles, ACCESS_TOKEN_TYPE, accessTokenValidTime);
     }
 
     /**
      * 리프레시 토큰을 생성합니다.
      */
-    public String createRefreshToken(String subject, UserRole roles) {
-        return buildToken(subject, roles, refreshTokenValidTime);
+    public String createRefreshToken(Long userId, String subject, UserRole roles) {
+        return buildToken(userId, subject, roles, REFRESH_TOKEN_TYPE, refreshTokenValidTime);
     }
 
     /**
      * JWT 토큰을 실제로 생성하는 내부 메서드입니다.
      */
-    private String buildToken(String subject, UserRole roles, long validTime) {
+    private String buildToken(Long userId, String subject, UserRole roles, String type, long validTime) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + validTime);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
-                .claim("roles", roles.name())
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ROLES_CLAIM, roles.name())
+                .claim(TOKEN_TYPE_CLAIM, type)
                 .issuedAt(now)
                 .expiration(expiration)
                 .signWith(secretKey)
@@ -102,20 +185,61 @@ public class JwtTokenProvider {
      * JWT에서 사용자 식별자(subject)를 추출합니다.
      */
     public String getUserId(String token) throws JwtException {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return getClaims(token).getSubject();
+    }
+
+    /**
+     * 검증된 claims 의 사용자 PK(uid)를 반환합니다. uid 가 없는 이전 형식의 토큰이면 null 입니다.
+     */
+    public Long getUserPk(Claims claims) {
+        return claims.get(USER_ID_CLAIM, Long.class);
+    }
+
+    /**
+     * 액세스 토큰이면 true. typ claim 이 없는 이전 형식의 토큰은 유효 기간으로 판단합니다.
+     */
+    public boolean isAccessToken(Claims claims) {
+        String type = claims.get(TOKEN_TYPE_CLAIM, String.class);
+        if (type != null) {
+            return ACCESS_TOKEN_TYPE.equals(type);
+        }
+        return claims.getIssuedAt() != null
+                && claims.getExpiration().getTime() - claims.getIssuedAt().getTime() <= accessTokenValidTime;
+    }
+
+    /**
+     * 액세스 토큰 유효 시간(ms)을 반환합니다. (사용자 단위 액세스 토큰 만료 기록 보관 기간)
+     */
+    public long getAccessTokenValidTime() {
+        return accessTokenValidTime;
+    }
+
+    /**
+     * 리프레시 토큰 유효 시간(ms)을 반환합니다. (사용자 단위 폐기 기록 보관 기간)
+     */
+    public long getRefreshTokenValidTime() {
+        return refreshTokenValidTime;
     }
 
     /**
      * 토큰으로부터 Authentication 객체를 생성합니다.
      */
     public Authentication getAuthentication(String token) {
-        String userId = getUserId(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userId);
+        return getAuthentication(getClaims(token));
+    }
+
+    /**
+     * 이미 검증된 claims 로부터 Authentication 객체를 생성합니다.
+     * stateless 모드에서는 claims(uid, subject, roles)만으로 인증 주체를 만들고,
+     * uid 가 없는 이전 형식의 토큰은 UserDetailsService(짧은 TTL 사용자 캐시)로 조회합니다.
+     */
+    public Authentication getAuthentication(Claims claims) {
+        UserDetails userDetails = statelessPrincipal && claims.get(USER_ID_CLAIM) != null
+                ? new ClaimsUserDetails(
+                        getUserPk(claims),
+                        claims.getSubject(),
+                        UserRole.valueOf(claims.get(ROLES_CLAIM, String.class)))
+                : userDetailsService.loadUserByUsername(claims.getSubject());
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
@@ -124,12 +248,7 @@ public class JwtTokenProvider {
      * - 최신 API로 통일
      */
     public long getTokenExpiration(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getExpiration().getTime();
+        return getClaims(token).getExpiration().getTime();
     }
 
     /**
@@ -141,10 +260,7 @@ public class JwtTokenProvider {
             return false;
         }
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            getClaims(token);
             return true;
         } catch (ExpiredJwtException e) {
             return true; // 만료되어도 유효한 토큰으로 간주
@@ -152,4 +268,13 @@ public class JwtTokenProvider {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -38,10 +38,12 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
 
             // 2. JWT 토큰 생성 (기존 로그인과 동일한 방식!)
             String accessToken = jwtTokenProvider.createAccessToken(
+                    oAuth2User.getUser().getId(),
                     oAuth2User.getUser().getEmail(),
                     oAuth2User.getUser().getRole()
             );
             String refreshToken = jwtTokenProvider.createRefreshToken(
+                    oAuth2User.getUser().getId(),
                     oAuth2User.getUser().getEmail(),
                     oAuth2User.getUser().getRole()
             );
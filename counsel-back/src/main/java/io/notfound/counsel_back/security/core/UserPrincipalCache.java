@@ -0,0 +1,53 @@
+package io.notfound.counsel_back.security.core;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 이메일 → 인증 주체(CustomUserDetails) 단기 캐시.
+ * uid claim 이 없는 토큰이나 stateless 모드를 끈 경우에도 요청마다 users 테이블을 조회하지 않도록 한다.
+ * 권한 변경, 회원 탈퇴, 이용권 갱신 시 evict 로 즉시 무효화하고, 다른 노드는 TTL 이 지나면 다시 조회한다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final long ttlMillis;
+    private final Map<String, CachedPrincipal> cache;
+
+    private record CachedPrincipal(CustomUserDetails userDetails, long expiresAt) {
+    }
+
+    public UserPrincipalCache(
+            @Value("${security.user-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${security.user-cache.size:10000}") int maxSize) {
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPrincipal> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    public CustomUserDetails get(String email, Supplier<CustomUserDetails> loader) {
+        if (ttlMillis <= 0) {
+            return loader.get();
+        }
+        CachedPrincipal cached = cache.get(email);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached.userDetails();
+        }
+        CustomUserDetails userDetails = loader.get();
+        cache.put(email, new CachedPrincipal(userDetails, System.currentTimeMillis() + ttlMillis));
+        return userDetails;
+    }
+
+    public void evict(String email) {
+        cache.remove(email);
+    }
+}
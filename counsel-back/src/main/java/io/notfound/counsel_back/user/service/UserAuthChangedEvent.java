@@ -0,0 +1,8 @@
+package io.notfound.counsel_back.user.service;
+
+/**
+ * 권한이나 이용권처럼 인증 주체에 담기는 사용자 정보 변경 이벤트.
+ * 커밋 이후 UserTokenRevocationListener 가 받아 인증 캐시를 비우고 발급된 액세스 토큰을 만료시킨다.
+ */
+public record UserAuthChangedEvent(Long userId, String email) {
+}
@@ -0,0 +1,7 @@
+package io.notfound.counsel_back.user.service;
+
+/**
+ * 회원 탈퇴 이벤트. 커밋 이후 UserTokenRevocationListener 가 받아 인증 캐시와 발급된 토큰을 정리한다.
+ */
+public record UserDeletedEvent(Long userId, String email) {
+}
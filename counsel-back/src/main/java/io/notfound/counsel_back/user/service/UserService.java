@@ -1,8 +1,10 @@
 package io.notfound.counsel_back.user.service;
 
 import io.notfound.counsel_back.user.entity.User;
+import io.notfound.counsel_back.user.entity.UserRole;
 import io.notfound.counsel_back.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
@@ -12,6 +14,7 @@ import java.time.LocalDateTime;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 회원 조회
@@ -27,10 +30,10 @@ public class UserService {
      */
     @Transactional
     public void deleteUser(Long userId) {
-        if (!userRepository.existsById(userId)) {
-            throw new RuntimeException("User not found");
-        }
-        userRepository.deleteById(userId);
+        User user = getUserById(userId);
+        userRepository.delete(user);
+        // 인증 캐시 무효화와 토큰 폐기는 커밋 후 UserTokenRevocationListener 에서 수행
+        eventPublisher.publishEvent(new UserDeletedEvent(userId, user.getEmail()));
     }
 
     /**
@@ -52,5 +55,18 @@ public class UserService {
         User user = getUserById(userId);
         user.setAccessUntil(newExpiry);  // 만료일 갱신
         userRepository.save(user); // JPA 더티 체킹으로 인해 save() 호출은 필수는 아니지만, 명시적으로 저장하는 것을 권장
+        // 인증 캐시 무효화와 액세스 토큰 만료는 커밋 후 UserTokenRevocationListener 에서 수행
+        eventPublisher.publishEvent(new UserAuthChangedEvent(userId, user.getEmail()));
+    }
+
+    /**
+     * 권한 변경
+     */
+    @Transactional
+    public void updateRole(Long userId, UserRole role) {
+        User user = getUserById(userId);
+        user.setRole(role);
+        // 토큰 claims 의 권한이 바뀌도록 커밋 후 액세스 토큰 만료 (UserTokenRevocationListener)
+        eventPublisher.publishEvent(new UserAuthChangedEvent(userId, user.getEmail()));
     }
 }
@@ -0,0 +1,84 @@
+package io.notfound.counsel_back.user.service;
+
+import io.notfound.counsel_back.auth.service.TokenBlacklistService;
+import io.notfound.counsel_back.security.core.UserPrincipalCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 탈퇴, 권한/이용권 변경이 커밋된 뒤에만 사용자 인증 캐시를 비우고 토큰을 사용자 단위로 정리한다.
+ * 탈퇴는 모든 토큰을 폐기하고, 권한/이용권 변경은 액세스 토큰만 만료시켜 클라이언트가 리프레시로 최신 claims 를 받게 한다.
+ * 트랜잭션이 롤백되면 아무 것도 하지 않고, Redis 장애로 실패해도 변경은 되돌리지 않고 백오프로 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserTokenRevocationListener {
+
+    private static final int MAX_ATTEMPTS = 6;
+    private static final long INITIAL_BACKOFF_MILLIS = 1000L;
+
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenBlacklistService tokenBlacklistService;
+
+    private ScheduledExecutorService retryExecutor;
+
+    @PostConstruct
+    public void init() {
+        retryExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "user-revocation-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryExecutor.shutdownNow();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserDeleted(UserDeletedEvent event) {
+        userPrincipalCache.evict(event.email());
+        // claims 만으로 인증하는 토큰도 더 이상 쓰이지 않도록 사용자 단위로 폐기
+        retry("탈퇴 사용자 토큰 폐기", event.userId(),
+                () -> tokenBlacklistService.revokeAllForUser(event.userId()), 1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserAuthChanged(UserAuthChangedEvent event) {
+        userPrincipalCache.evict(event.email());
+        // claims 로 만든 인증 주체가 이전 권한을 계속 쓰지 않도록 액세스 토큰 재발급 유도
+        retry("사용자 액세스 토큰 만료", event.userId(),
+                () -> tokenBlacklistService.expireAccessTokensForUser(event.userId()), 1);
+    }
+
+    private void retry(String action, Long userId, Runnable task, int attempt) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            if (attempt >= MAX_ATTEMPTS) {
+                log.error("{} 최종 실패 (userId={})", action, userId, e);
+                return;
+            }
+            long backoff = INITIAL_BACKOFF_MILLIS << (attempt - 1);
+            log.warn("{} 실패, {}ms 후 재시도 (userId={}, attempt={}/{})",
+                    action, backoff, userId, attempt, MAX_ATTEMPTS);
+            try {
+                retryExecutor.schedule(() -> retry(action, userId, task, attempt + 1), backoff, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException re) {
+                log.error("종료 중이라 {} 재시도를 예약하지 못함 (userId={})", action, userId);
+            }
+        }
+    }
+}
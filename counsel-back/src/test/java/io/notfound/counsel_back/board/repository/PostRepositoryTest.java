@@ -0,0 +1,131 @@
+package io.notfound.counsel_back.board.repository;
+
+import io.notfound.counsel_back.board.dto.PostSummaryResponse;
+import io.notfound.counsel_back.board.entity.Attachment;
+import io.notfound.counsel_back.board.entity.Post;
+import io.notfound.counsel_back.user.entity.User;
+import io.notfound.counsel_back.user.entity.UserRole;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "io.notfound.counsel_back.board.repository.PostRepositoryTest$SqlRecorder"
+})
+class PostRepositoryTest {
+
+    private static final int POST_COUNT = 200;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        User author = entityManager.persist(User.builder()
+                .email("author@test.local")
+                .userName("author")
+                .role(UserRole.USER)
+                .build());
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post post = Post.builder()
+                    .title("제목 " + i)
+                    .content("내용 " + i + " " + "본문".repeat(200))
+                    .author(author)
+                    .build();
+            post.addAttachment(Attachment.builder().fileName("a.png").fileUrl("https://s3/a-" + i).build());
+            post.addAttachment(Attachment.builder().fileName("b.png").fileUrl("https://s3/b-" + i).build());
+            entityManager.persist(post);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        SqlRecorder.clear();
+        statistics().clear();
+    }
+
+    @Test
+    void pageQueryLimitsRowsInDatabase() {
+        Page<Long> ids = postRepository.findPageIds(PageRequest.of(1, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")));
+        List<Post> posts = postRepository.findAllWithAuthorAndAttachmentsByIdIn(ids.getContent());
+
+        assertThat(ids.getContent()).hasSize(PAGE_SIZE);
+        assertThat(ids.getTotalElements()).isEqualTo(POST_COUNT);
+        assertThat(posts).hasSize(PAGE_SIZE);
+        assertThat(posts).allSatisfy(post -> assertThat(post.getAttachments()).hasSize(2));
+
+        String idQuery = SqlRecorder.statements().get(0).toLowerCase();
+        assertThat(idQuery).containsAnyOf(" limit ", " fetch first ", " fetch next ");
+    }
+
+    @Test
+    void loadedEntitiesDoNotGrowWithTableSize() {
+        Page<Long> ids = postRepository.findPageIds(PageRequest.of(0, PAGE_SIZE));
+        postRepository.findAllWithAuthorAndAttachmentsByIdIn(ids.getContent());
+
+        // 게시글 10 + 작성자 1 + 첨부 20 만 로드되어야 함 (전체 200건 × 첨부 2건과 무관)
+        assertThat(statistics().getEntityLoadCount()).isLessThanOrEqualTo(PAGE_SIZE * 3 + 1);
+    }
+
+    @Test
+    void summaryProjectionLoadsNoEntities() {
+        Page<Long> ids = postRepository.findPageIds(PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")));
+        List<PostSummaryResponse> summaries = postRepository.findSummariesByIdIn(ids.getContent());
+
+        assertThat(summaries).hasSize(PAGE_SIZE);
+        assertThat(summaries).allSatisfy(summary -> {
+            assertThat(summary.getExcerpt()).hasSizeLessThanOrEqualTo(PostSummaryResponse.EXCERPT_LENGTH);
+            assertThat(summary.getThumbnailUrl()).startsWith("https://s3/a-");
+            assertThat(summary.getAuthorId()).isNotNull();
+        });
+        // 게시글/첨부 엔티티(본문 LOB 포함)를 전혀 로드하지 않아야 함
+        assertThat(statistics().getEntityLoadCount()).isZero();
+        assertThat(statistics().getCollectionLoadCount()).isZero();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // 실행된 SQL 을 기록하는 Hibernate StatementInspector
+    public static class SqlRecorder implements StatementInspector {
+
+        private static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static List<String> statements() {
+            return List.copyOf(STATEMENTS);
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+    }
+}
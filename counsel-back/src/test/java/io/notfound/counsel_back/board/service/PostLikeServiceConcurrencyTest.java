@@ -0,0 +1,143 @@
+package io.notfound.counsel_back.board.service;
+
+import io.notfound.counsel_back.board.entity.Post;
+import io.notfound.counsel_back.board.repository.PostLikeRepository;
+import io.notfound.counsel_back.board.repository.PostRepository;
+import io.notfound.counsel_back.common.exception.PostNotFoundException;
+import io.notfound.counsel_back.user.entity.User;
+import io.notfound.counsel_back.user.entity.UserRole;
+import io.notfound.counsel_back.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:likes;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.hikari.maximum-pool-size=32"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostLikeService.class, PostLikeReconciler.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostLikeServiceConcurrencyTest {
+
+    private static final int USERS = 200;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private PostLikeReconciler postLikeReconciler;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long postId;
+    private final List<String> emails = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USERS; i++) {
+            String email = "liker-" + i + "@test.local";
+            userRepository.save(User.builder().email(email).userName("liker-" + i).role(UserRole.USER).build());
+            emails.add(email);
+        }
+        postId = postRepository.save(Post.builder()
+                .title("인기 게시글")
+                .content("내용")
+                .author(userRepository.findByEmail(emails.get(0)).orElseThrow())
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postLikeRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void parallelTogglesByDifferentUsersKeepCountInSync() throws Exception {
+        runInParallel(emails);
+        assertThat(likeCount()).isEqualTo(USERS);
+        assertThat(postLikeRepository.count()).isEqualTo(USERS);
+
+        runInParallel(emails);
+        assertThat(likeCount()).isZero();
+        assertThat(postLikeRepository.count()).isZero();
+    }
+
+    @Test
+    void parallelTogglesBySameUserNeverDrift() throws Exception {
+        List<String> sameUser = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            sameUser.add(emails.get(0));
+        }
+        runInParallel(sameUser);
+
+        assertThat(likeCount()).isEqualTo(postLikeRepository.count());
+        assertThat(likeCount()).isBetween(0, 1);
+    }
+
+    @Test
+    void reconcilerRepairsDriftedCount() throws Exception {
+        runInParallel(emails.subList(0, 10));
+        jdbcTemplate.update("UPDATE post SET like_count = like_count + 5 WHERE id = ?", postId);
+
+        assertThat(postLikeReconciler.reconcile()).isEqualTo(1);
+        assertThat(likeCount()).isEqualTo(10);
+    }
+
+    @Test
+    void unknownUserIsRejected() {
+        assertThatThrownBy(() -> postLikeService.toggle(postId, "nobody@test.local"))
+                .isInstanceOf(PostNotFoundException.class)
+                .hasMessageContaining("사용자를 찾을 수 없습니다");
+        assertThat(likeCount()).isZero();
+    }
+
+    private void runInParallel(List<String> users) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String email : users) {
+                futures.add(executor.submit((Callable<Object>) () -> postLikeService.toggle(postId, email)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int likeCount() {
+        return postRepository.findLikeCountById(postId);
+    }
+}
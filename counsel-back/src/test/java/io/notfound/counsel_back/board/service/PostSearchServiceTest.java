@@ -0,0 +1,29 @@
+package io.notfound.counsel_back.board.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchServiceTest {
+
+    @Test
+    void eachWordBecomesRequiredPhrase() {
+        assertThat(PostSearchService.toBooleanQuery("  우울증   상담 ")).isEqualTo("+\"우울증\" +\"상담\"");
+    }
+
+    @Test
+    void booleanOperatorsAreStripped() {
+        assertThat(PostSearchService.toBooleanQuery("-불안* +\"공황\" (수면)~ <a> @3"))
+                .isEqualTo("+\"불안\" +\"공황\" +\"수면\"");
+    }
+
+    @Test
+    void wordsShorterThanNgramAreDropped() {
+        assertThat(PostSearchService.toBooleanQuery("잠 불면 a +b")).isEqualTo("+\"불면\"");
+    }
+
+    @Test
+    void onlyShortOrOperatorWordsGiveEmptyQuery() {
+        assertThat(PostSearchService.toBooleanQuery("잠 + - *")).isEmpty();
+    }
+}
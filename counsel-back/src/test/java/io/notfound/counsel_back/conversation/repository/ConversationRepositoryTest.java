@@ -0,0 +1,71 @@
+package io.notfound.counsel_back.conversation.repository;
+
+import io.notfound.counsel_back.conversation.dto.ChatContext;
+import io.notfound.counsel_back.conversation.entity.ChatMessage;
+import io.notfound.counsel_back.conversation.entity.Conversation;
+import io.notfound.counsel_back.conversation.entity.Sender;
+import io.notfound.counsel_back.user.entity.User;
+import io.notfound.counsel_back.user.entity.UserRole;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ConversationRepositoryTest {
+
+    private static final int MESSAGE_COUNT = 100;
+
+    @Autowired
+    private ConversationRepository conversationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long conversationId;
+
+    @BeforeEach
+    void setUp() {
+        User owner = entityManager.persist(User.builder()
+                .email("owner@test.local")
+                .userName("owner")
+                .role(UserRole.USER)
+                .build());
+        Conversation conversation = entityManager.persist(new Conversation(owner));
+        conversation.updateHistory("이전 상담 요약");
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            entityManager.persist(new ChatMessage(i % 2 == 0 ? Sender.USER : Sender.AI, "메시지 " + i, conversation));
+        }
+        conversationId = conversation.getId();
+        entityManager.flush();
+        entityManager.clear();
+        statistics().clear();
+    }
+
+    @Test
+    void chatTurnContextLoadsInOneStatement() {
+        ChatContext context = conversationRepository.findChatContextById(conversationId).orElseThrow();
+
+        assertThat(context.getOwnerEmail()).isEqualTo("owner@test.local");
+        assertThat(context.getHistory()).isEqualTo("이전 상담 요약");
+        assertThat(context.hasTitle()).isFalse();
+
+        // 대화/사용자/메시지 엔티티 로딩 없이 프로젝션 쿼리 1건 (메시지 수와 무관)
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics().getEntityLoadCount()).isZero();
+        assertThat(statistics().getCollectionLoadCount()).isZero();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
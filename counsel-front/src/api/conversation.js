@@ -1,9 +1,13 @@
 // src/api/conversation.js
 import apiClient from "./index";
 
-// 모든 대화 목록 조회
-export const fetchConversations = async () => {
-  return await apiClient.get("/conversations");
+// 대화 목록 페이지 조회 (cursor 가 없으면 첫 페이지, 응답의 nextCursorCreatedAt/nextCursorId 로 다음 페이지)
+export const fetchConversations = async (cursor) => {
+  return await apiClient.get("/conversations", {
+    params: cursor
+      ? { cursorCreatedAt: cursor.createdAt, cursorId: cursor.id }
+      : {},
+  });
 };
 
 // 특정 대화 상세 조회
@@ -184,6 +184,8 @@ import ConversationEditModal from "./ConversationEditModal";
 
 function Sidebar({
   conversations,
+  hasMoreConversations,
+  onLoadMoreConversations,
   activeConversationId,
   onNewConversation,
   onSelectConversation,
@@ -268,6 +270,15 @@ function Sidebar({
               </button>
             </div>
           ))}
+
+        {hasMoreConversations && (
+          <button
+            className="btn btn-sm btn-ghost w-full mt-2"
+            onClick={onLoadMoreConversations}
+          >
+            더 보기
+          </button>
+        )}
       </div>
 
       <ConversationEditModal
@@ -15,6 +15,10 @@ import {
 } from "../api/conversation";
 import { checkAccessStatus, updateAccessStatus } from "../api/payment";
 
+// 다음 페이지가 있으면 커서, 없으면 null
+const nextCursorOf = (page) =>
+  page.hasMore ? { createdAt: page.nextCursorCreatedAt, id: page.nextCursorId } : null;
+
 function ChatPage() {
   const { isLoggedIn, isLoading } = useAuth();
   const navigate = useNavigate();
@@ -22,6 +26,7 @@ function ChatPage() {
   const tempMessagesRef = useRef([]);
 
   const [conversations, setConversations] = useState([]);
+  const [conversationCursor, setConversationCursor] = useState(null);
   const [tempMessages, setTempMessages] = useState([]);
   const [activeConversationId, setActiveConversationId] = useState(null);
   const [editingConversationId, setEditingConversationId] = useState(null);
@@ -44,9 +49,10 @@ function ChatPage() {
 
     const init = async () => {
       try {
-        // 대화 목록
+        // 대화 목록 (첫 페이지)
         const convResp = await fetchConversations();
-        setConversations(convResp.data);
+        setConversations(convResp.data.conversations);
+        setConversationCursor(nextCursorOf(convResp.data));
 
         // 이용권 확인
         const accessResp = await checkAccessStatus();
@@ -102,6 +108,18 @@ function ChatPage() {
     );
   };
 
+  // --- 대화 목록 다음 페이지 ---
+  const handleLoadMoreConversations = async () => {
+    if (!conversationCursor) return;
+    try {
+      const { data } = await fetchConversations(conversationCursor);
+      setConversations((prev) => [...prev, ...data.conversations]);
+      setConversationCursor(nextCursorOf(data));
+    } catch (e) {
+      console.error("대화 목록 불러오기 실패:", e);
+    }
+  };
+
   // --- 새 대화 생성 ---
   const handleNewConversation = () => {
     setActiveConversationId(null);
@@ -200,7 +218,8 @@ function ChatPage() {
         setIsSending(false);
         if (!isNewConv) return;
         try {
-          const { data: list } = await fetchConversations();
+          const { data } = await fetchConversations();
+          const list = data.conversations;
           setConversations((prev) => [
             { ...list[0], messages: tempMessagesRef.current },
             ...prev,
@@ -247,6 +266,8 @@ function ChatPage() {
       </div>
       <Sidebar
         conversations={conversations}
+        hasMoreConversations={!!conversationCursor}
+        onLoadMoreConversations={handleLoadMoreConversations}
         activeConversationId={activeConversationId}
         onNewConversation={handleNewConversation}
         onSelectConversation={handleSelectConversation}